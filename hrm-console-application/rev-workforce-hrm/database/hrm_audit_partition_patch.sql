@@ -0,0 +1,53 @@
+---------------------------------------------------------
+--  HRM AUDIT PARTITION PATCH
+---------------------------------------------------------
+
+USE hrm_console;
+
+SET SQL_SAFE_UPDATES = 0;
+
+
+--  Partitioned tables can't carry foreign keys and need the partition column in every unique key
+
+ALTER TABLE audit_logs DROP FOREIGN KEY audit_logs_ibfk_1;
+
+ALTER TABLE audit_logs
+    MODIFY action_timestamp DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (log_id, action_timestamp);
+
+
+--  One partition per month  ||  p_history holds everything before this month, pmax stays empty.
+--  AuditRetentionJob adds months ahead (audit.partition.monthsAhead) and drops months past audit.retention.months.
+
+SET @this_month = DATE_FORMAT(CURRENT_DATE, '%Y-%m-01');
+SET @next_month = DATE_FORMAT(CURRENT_DATE + INTERVAL 1 MONTH, '%Y-%m-01');
+
+SET @ddl = CONCAT(
+    'ALTER TABLE audit_logs PARTITION BY RANGE COLUMNS (action_timestamp) (',
+    'PARTITION p_history VALUES LESS THAN (''', @this_month, '''), ',
+    'PARTITION p', DATE_FORMAT(CURRENT_DATE, '%Y%m'), ' VALUES LESS THAN (''', @next_month, '''), ',
+    'PARTITION pmax VALUES LESS THAN (MAXVALUE))');
+
+PREPARE partition_stmt FROM @ddl;
+EXECUTE partition_stmt;
+DEALLOCATE PREPARE partition_stmt;
+
+
+--  Recent-first audit view and date-bounded scans
+
+CREATE INDEX idx_audit_logs_timestamp ON audit_logs (action_timestamp);
+
+
+--  Investigation filters (AuditLogDAO.search)  ||  equality columns first, then action_timestamp for the window,
+--  the newest-first sort and the keyset seek; InnoDB appends the primary key (log_id) to each as the tie-breaker.
+--  idx_audit_logs_employee replaces the index MySQL created for the dropped foreign key.
+
+CREATE INDEX idx_audit_logs_employee ON audit_logs (employee_id, action_timestamp);
+CREATE INDEX idx_audit_logs_entity ON audit_logs (entity_type, entity_id, action_timestamp);
+CREATE INDEX idx_audit_logs_action ON audit_logs (action_type, action_timestamp);
+DROP INDEX employee_id ON audit_logs;
+
+SET SQL_SAFE_UPDATES = 1;
+
+COMMIT;
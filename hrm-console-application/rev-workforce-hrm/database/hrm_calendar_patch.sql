@@ -0,0 +1,50 @@
+---------------------------------------------------------
+--  HRM CALENDAR PATCH
+---------------------------------------------------------
+
+USE hrm_console;
+
+SET SQL_SAFE_UPDATES = 0;
+
+
+--  Regional work calendars  ||  weekend_days is a comma list of DayOfWeek names, e.g. 'FRIDAY,SATURDAY'
+
+CREATE TABLE IF NOT EXISTS work_calendars (
+    calendar_code VARCHAR(20) PRIMARY KEY,
+    calendar_name VARCHAR(100) NOT NULL,
+    weekend_days VARCHAR(80) NOT NULL DEFAULT 'SATURDAY,SUNDAY',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT IGNORE INTO work_calendars (calendar_code, calendar_name, weekend_days)
+VALUES ('DEFAULT', 'Head Office', 'SATURDAY,SUNDAY');
+
+
+--  Departments pick their calendar (NULL = DEFAULT)
+
+ALTER TABLE departments
+    ADD COLUMN calendar_code VARCHAR(20) NULL,
+    ADD CONSTRAINT fk_departments_calendar FOREIGN KEY (calendar_code) REFERENCES work_calendars(calendar_code);
+
+
+--  Holidays belong to one calendar or to every calendar (NULL)
+--  The same date can now be a holiday in more than one region
+
+ALTER TABLE holidays
+    ADD COLUMN calendar_code VARCHAR(20) NULL,
+    ADD CONSTRAINT fk_holidays_calendar FOREIGN KEY (calendar_code) REFERENCES work_calendars(calendar_code),
+    DROP INDEX holiday_date;
+
+
+--  Uniqueness per date and calendar  ||  a unique index lets any number of NULLs through, so it is keyed on
+--  calendar_key ('*' for every-calendar holidays) and one date can't hold two company-wide holidays
+
+ALTER TABLE holidays
+    ADD COLUMN calendar_key VARCHAR(20) AS (COALESCE(calendar_code, '*')) STORED,
+    ADD UNIQUE INDEX holiday_calendar_idx (holiday_date, calendar_key);
+
+CREATE INDEX idx_holidays_year_calendar ON holidays (year, calendar_code);
+
+SET SQL_SAFE_UPDATES = 1;
+
+COMMIT;
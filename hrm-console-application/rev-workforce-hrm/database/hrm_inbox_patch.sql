@@ -0,0 +1,41 @@
+---------------------------------------------------------
+--  HRM INBOX PATCH
+---------------------------------------------------------
+
+USE hrm_console;
+
+SET SQL_SAFE_UPDATES = 0;
+
+
+--  Company-wide broadcasts are stored once in announcements and merged into each inbox at read time.
+--  One row per employee records the newest announcement they have seen; anything above it shows as [NEW].
+
+CREATE TABLE IF NOT EXISTS announcement_reads (
+    employee_id INT PRIMARY KEY,
+    last_read_id INT NOT NULL DEFAULT 0,
+    read_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (employee_id) REFERENCES employees(employee_id)
+);
+
+
+--  Existing employees start with every announcement already posted marked as read, so the upgrade does not
+--  light up every inbox with [NEW] for history. Re-running leaves existing watermarks alone.
+
+INSERT IGNORE INTO announcement_reads (employee_id, last_read_id)
+SELECT e.employee_id, (SELECT COALESCE(MAX(announcement_id), 0) FROM announcements)
+FROM employees e;
+
+
+--  Personal half of the inbox  ||  newest-first listing and the unread badge count
+
+CREATE INDEX idx_notifications_employee_created ON notifications (employee_id, created_at);
+CREATE INDEX idx_notifications_employee_read ON notifications (employee_id, is_read);
+
+
+--  Active announcements lookup
+
+CREATE INDEX idx_announcements_active ON announcements (is_active, valid_from, valid_until);
+
+SET SQL_SAFE_UPDATES = 1;
+
+COMMIT;
@@ -0,0 +1,58 @@
+---------------------------------------------------------
+--  HRM INDEX PATCH
+---------------------------------------------------------
+
+USE hrm_console;
+
+SET SQL_SAFE_UPDATES = 0;
+
+
+--  Performance review cycle key (hrm_performance_setup.sql recreates the table without it)
+--  Drops duplicate cycle rows first, keeping the furthest-along review per employee / year / period
+--  (COMPLETED > REVIEWED > SUBMITTED > PENDING, oldest first on a tie) so no self-assessment or feedback is lost.
+--  Run the SELECT on its own first to see which rows will go.
+
+SELECT pr.review_id, pr.employee_id, pr.review_year, pr.review_period, pr.status
+FROM performance_reviews pr
+JOIN (
+    SELECT review_id,
+           ROW_NUMBER() OVER (PARTITION BY employee_id, review_year, review_period
+                              ORDER BY FIELD(status, 'PENDING', 'SUBMITTED', 'REVIEWED', 'COMPLETED') DESC, review_id) AS keep_rank
+    FROM performance_reviews
+) ranked ON ranked.review_id = pr.review_id
+WHERE ranked.keep_rank > 1;
+
+DELETE pr FROM performance_reviews pr
+JOIN (
+    SELECT review_id,
+           ROW_NUMBER() OVER (PARTITION BY employee_id, review_year, review_period
+                              ORDER BY FIELD(status, 'PENDING', 'SUBMITTED', 'REVIEWED', 'COMPLETED') DESC, review_id) AS keep_rank
+    FROM performance_reviews
+) ranked ON ranked.review_id = pr.review_id
+WHERE ranked.keep_rank > 1;
+
+ALTER TABLE performance_reviews
+    ADD UNIQUE INDEX review_cycle_idx (employee_id, review_year, review_period);
+
+
+--  Manager review queue  ||  direct reports by manager, submitted reviews by year and status
+
+CREATE INDEX idx_employees_manager ON employees (manager_id, is_deleted);
+CREATE INDEX idx_reviews_year_status ON performance_reviews (review_year, status);
+
+--  Keyset pagination  ||  leave requests are paged newest first on (applied_at, request_id)
+
+CREATE INDEX idx_leave_requests_applied ON leave_requests (applied_at, request_id);
+
+--  Admin pending queue and dashboard feed  ||  pending requests oldest first, latest announcements first
+
+CREATE INDEX idx_leave_requests_status_applied ON leave_requests (status, applied_at);
+CREATE INDEX idx_announcements_created ON announcements (created_at);
+
+--  Employee directory search (search.mode=fulltext)  ||  MATCH ... AGAINST in boolean mode
+
+CREATE FULLTEXT INDEX ft_employees_search ON employees (first_name, last_name, employee_code, email);
+
+SET SQL_SAFE_UPDATES = 1;
+
+COMMIT;
@@ -0,0 +1,29 @@
+---------------------------------------------------------
+--  HRM NOTIFICATION DEAD LETTER PATCH
+---------------------------------------------------------
+
+USE hrm_console;
+
+SET SQL_SAFE_UPDATES = 0;
+
+
+--  Notifications NotificationDispatcher gave up on after notification.dispatch.maxAttempts.
+--  Rows keep the original created_at; re-send with an INSERT ... SELECT into notifications, then delete them here.
+
+CREATE TABLE IF NOT EXISTS notification_dead_letters (
+    dead_letter_id INT AUTO_INCREMENT PRIMARY KEY,
+    employee_id INT NOT NULL,
+    title VARCHAR(255),
+    message VARCHAR(255) NOT NULL,
+    notification_type VARCHAR(50) NOT NULL,
+    related_id INT,
+    created_at DATETIME NOT NULL,
+    attempts INT NOT NULL,
+    last_error VARCHAR(500),
+    failed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_dead_letters_failed (failed_at)
+);
+
+SET SQL_SAFE_UPDATES = 1;
+
+COMMIT;
@@ -0,0 +1,37 @@
+---------------------------------------------------------
+--  HRM OUTBOX PATCH
+---------------------------------------------------------
+
+USE hrm_console;
+
+SET SQL_SAFE_UPDATES = 0;
+
+
+--  Notifications and audit rows written in the same transaction as a leave decision.
+--  OutboxRelay copies them into notifications / audit_logs and deletes them in one transaction.
+--  kind = NOTIFICATION : employee_id is the recipient, entity_id the related id
+--  kind = AUDIT        : employee_id is the actor, created_at becomes action_timestamp
+--  Rows with attempts >= outbox.relay.maxAttempts are skipped; last_error says why.
+--  Payload columns are TEXT so an oversized value can never fail the business transaction that writes the event.
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    event_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    kind VARCHAR(20) NOT NULL,
+    employee_id INT,
+    title TEXT,
+    message TEXT,
+    notification_type VARCHAR(50),
+    action_type VARCHAR(50),
+    entity_type VARCHAR(50),
+    entity_id INT,
+    old_value TEXT,
+    new_value TEXT,
+    ip_address VARCHAR(50),
+    created_at DATETIME NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(500)
+);
+
+SET SQL_SAFE_UPDATES = 1;
+
+COMMIT;
@@ -27,6 +27,9 @@ public class Main {
         EmployeeService employeeService = new EmployeeService(authService);
         LeaveService leaveService = new LeaveService(authService, notificationService);
         PerformanceService performanceService = new PerformanceService(authService, notificationService);
+        AuditRetentionJob auditRetentionJob = new AuditRetentionJob();
+        auditRetentionJob.start();
+        OutboxRelay.get().start();
 
 
 //      Initialize UI Classes with all services
@@ -44,6 +47,11 @@ public class Main {
         } catch (Exception e) {
             System.err.println("\n[ERROR] Fatal error: " + e.getMessage());
         } finally {
+            auditRetentionJob.stop();
+            OutboxRelay.get().stop();
+            if (NotificationDispatcher.enabled()) NotificationDispatcher.get().shutdown();
+            if (AuditLogWriter.enabled()) AuditLogWriter.get().shutdown();
+            DBConnection.shutdown();
             System.out.println("\n" + "=".repeat(60));
             System.out.println("Thank you for using " + APP_NAME);
             System.out.println("=".repeat(60));
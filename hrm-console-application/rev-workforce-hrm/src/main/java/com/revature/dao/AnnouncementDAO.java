@@ -1,6 +1,7 @@
 package com.revature.dao;
 
 import com.revature.model.Announcement;
+import java.sql.SQLException;
 import java.util.List;
 
 public interface AnnouncementDAO extends GenericDAO<Announcement> {
@@ -8,7 +9,10 @@ public interface AnnouncementDAO extends GenericDAO<Announcement> {
     boolean updateAnnouncement(Announcement announcement);
     boolean deleteAnnouncement(int id);
     List<Announcement> findActive();
+    List<Announcement> findRecent(int limit);
     boolean setActive(int announcementId, boolean isActive);
+    int findReadWatermark(int employeeId) throws SQLException;
+    void advanceReadWatermark(int employeeId, int announcementId) throws SQLException;
 }
 
 
@@ -2,14 +2,21 @@ package com.revature.dao;
 
 import com.revature.model.Announcement;
 import com.revature.model.Announcement.Priority;
-import com.revature.util.ConnectionFactory;
+import com.revature.model.Page;
+import com.revature.model.PageRequest;
+import com.revature.util.DBConnection;
+import com.revature.util.JdbcBatch;
+import com.revature.util.JdbcStream;
+import com.revature.util.ReferenceCache;
 import com.revature.exception.AppException;
 import com.revature.exception.AppException.ErrorCode;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public class AnnouncementDAOImpl implements AnnouncementDAO {
 
@@ -18,24 +25,30 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
 
     private static final String INSERT_SQL = "INSERT INTO announcements (title, content, employee_id, priority, valid_from, valid_until) VALUES (?, ?, ?, ?, ?, ?)";
     private static final String UPDATE_SQL = "UPDATE announcements SET title = ?, content = ?, priority = ?, valid_from = ?, valid_until = ? WHERE announcement_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM announcements WHERE announcement_id = ?";
     private static final String SELECT_BASE = "SELECT a.*, CONCAT(e.first_name, ' ', e.last_name) as created_by_name FROM announcements a LEFT JOIN employees e ON a.employee_id = e.employee_id ";
+    private static final String SELECT_PAGE = SELECT_BASE + "WHERE a.announcement_id < ? ORDER BY a.announcement_id DESC LIMIT ?";
+    private static final String SELECT_WATERMARK = "SELECT last_read_id FROM announcement_reads WHERE employee_id = ?";
+    private static final String UPSERT_WATERMARK = "INSERT INTO announcement_reads (employee_id, last_read_id) VALUES (?, ?) AS r ON DUPLICATE KEY UPDATE last_read_id = GREATEST(announcement_reads.last_read_id, r.last_read_id)";
+
+
+//   Announcements are the broadcast half of every employee's inbox, so the active list is read on each badge redraw.
+//   Cached per day (valid_from / valid_until) and dropped on every write; read watermarks live in their own region.
+
+    private static final ReferenceCache CACHE = ReferenceCache.region("announcements");
+    private static final ReferenceCache WATERMARKS = ReferenceCache.region("announcement_reads");
 
 
     // ---  GenericDAO Methods Implementation ---
 
     @Override
     public Announcement create(Announcement a) throws SQLException {
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
 
-            stmt.setString(1, a.getTitle());
-            stmt.setString(2, a.getContent());
-            stmt.setInt(3, a.getEmployeeId());
-            String p = (a.getPriority() != null) ? a.getPriority().name() : "MEDIUM";
-            stmt.setString(4, p);
-            stmt.setObject(5, (a.getValidFrom() != null) ? a.getValidFrom() : java.time.LocalDate.now());
-            stmt.setObject(6, a.getValidUntil());
+            bindInsert(stmt, a);
             stmt.executeUpdate();
+            CACHE.invalidate();
 
             try (ResultSet rs = stmt.getGeneratedKeys()) {
                 if (rs.next()) a.setAnnouncementId(rs.getInt(1));
@@ -47,7 +60,7 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     @Override
     public Optional<Announcement> findById(int id) throws SQLException {
         String sql = SELECT_BASE + "WHERE a.announcement_id = ?";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, id);
             try (ResultSet rs = stmt.executeQuery()) {
@@ -61,7 +74,7 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     public List<Announcement> findAll() throws SQLException {
         List<Announcement> list = new ArrayList<>();
         String sql = SELECT_BASE + "ORDER BY a.created_at DESC";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) list.add(mapResultSetToAnnouncement(rs));
@@ -69,27 +82,71 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
         return list;
     }
 
+    @Override
+    public Stream<Announcement> streamAll() throws SQLException {
+        return JdbcStream.query(SELECT_BASE + "ORDER BY a.created_at DESC", this::mapResultSetToAnnouncement);
+    }
+
+    @Override
+    public Page<Announcement> findPage(PageRequest request) throws SQLException {
+        List<Announcement> list = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_PAGE)) {
+            stmt.setInt(1, request.isFirst() ? Integer.MAX_VALUE : request.getAfterId());
+            stmt.setInt(2, request.getSize() + 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapResultSetToAnnouncement(rs));
+            }
+        }
+        return Page.of(list, request, a -> request.after(a.getAnnouncementId()));
+    }
+
     @Override
     public boolean update(Announcement a) throws SQLException {
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(UPDATE_SQL)) {
-            stmt.setString(1, a.getTitle());
-            stmt.setString(2, a.getContent());
-            stmt.setString(3, a.getPriority().name());
-            stmt.setObject(4, a.getValidFrom());
-            stmt.setObject(5, a.getValidUntil());
-            stmt.setInt(6, a.getAnnouncementId());
-            return stmt.executeUpdate() > 0;
+            bindUpdate(stmt, a);
+            boolean updated = stmt.executeUpdate() > 0;
+            CACHE.invalidate();
+            return updated;
         }
     }
 
     @Override
     public boolean delete(int id) throws SQLException {
-        String sql = "DELETE FROM announcements WHERE announcement_id = ?";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(DELETE_SQL)) {
             stmt.setInt(1, id);
-            return stmt.executeUpdate() > 0;
+            boolean deleted = stmt.executeUpdate() > 0;
+            CACHE.invalidate();
+            return deleted;
+        }
+    }
+
+    @Override
+    public List<Announcement> createAll(List<Announcement> announcements) throws SQLException {
+        try {
+            return JdbcBatch.insert(INSERT_SQL, announcements, this::bindInsert, Announcement::setAnnouncementId);
+        } finally {
+            CACHE.invalidate();
+        }
+    }
+
+    @Override
+    public int updateAll(List<Announcement> announcements) throws SQLException {
+        try {
+            return JdbcBatch.execute(UPDATE_SQL, announcements, this::bindUpdate);
+        } finally {
+            CACHE.invalidate();
+        }
+    }
+
+    @Override
+    public int deleteAll(List<Integer> ids) throws SQLException {
+        try {
+            return JdbcBatch.execute(DELETE_SQL, ids, (stmt, id) -> stmt.setInt(1, id));
+        } finally {
+            CACHE.invalidate();
         }
     }
 
@@ -123,17 +180,72 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
 
     @Override
     public List<Announcement> findActive() {
+        try {
+            return CACHE.get("active:" + LocalDate.now(), this::loadActive);
+        } catch (SQLException e) {
+            throw new AppException(ErrorCode.DATABASE_ERROR, "Fetch active failed");
+        }
+    }
+
+    private List<Announcement> loadActive() throws SQLException {
+        List<Announcement> list = new ArrayList<>();
+        String sql = SELECT_BASE + "WHERE a.is_active = TRUE AND (a.valid_from IS NULL OR a.valid_from <= CURRENT_DATE) AND (a.valid_until IS NULL OR a.valid_until >= CURRENT_DATE) ORDER BY a.priority DESC";
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) list.add(mapResultSetToAnnouncement(rs));
+        }
+        return list;
+    }
+
+
+//   Read watermark  ||  every announcement with an id at or below last_read_id counts as read for that employee
+
+    @Override
+    public int findReadWatermark(int employeeId) throws SQLException {
+        return WATERMARKS.get(watermarkKey(employeeId), () -> {
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_WATERMARK)) {
+                stmt.setInt(1, employeeId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    return rs.next() ? rs.getInt(1) : 0;
+                }
+            }
+        });
+    }
+
+    @Override
+    public void advanceReadWatermark(int employeeId, int announcementId) throws SQLException {
+        if (announcementId <= findReadWatermark(employeeId)) return;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UPSERT_WATERMARK)) {
+            stmt.setInt(1, employeeId);
+            stmt.setInt(2, announcementId);
+            stmt.executeUpdate();
+        } finally {
+            WATERMARKS.invalidate(watermarkKey(employeeId));
+        }
+    }
+
+    private static String watermarkKey(int employeeId) {
+        return "employee:" + employeeId;
+    }
+
+    @Override
+    public List<Announcement> findRecent(int limit) {
         try {
             List<Announcement> list = new ArrayList<>();
-            String sql = SELECT_BASE + "WHERE a.is_active = TRUE AND (a.valid_from IS NULL OR a.valid_from <= CURRENT_DATE) AND (a.valid_until IS NULL OR a.valid_until >= CURRENT_DATE) ORDER BY a.priority DESC";
-            try (Connection conn = ConnectionFactory.getInstance().getConnection();
-                 PreparedStatement stmt = conn.prepareStatement(sql);
-                 ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) list.add(mapResultSetToAnnouncement(rs));
+            String sql = SELECT_BASE + "ORDER BY a.created_at DESC LIMIT ?";
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, Math.max(0, limit));
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) list.add(mapResultSetToAnnouncement(rs));
+                }
             }
             return list;
         } catch (SQLException e) {
-            throw new AppException(ErrorCode.DATABASE_ERROR, "Fetch active failed");
+            throw new AppException(ErrorCode.DATABASE_ERROR, "Fetch recent failed");
         }
     }
 
@@ -141,11 +253,13 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     public boolean setActive(int id, boolean active) {
         try {
             String sql = "UPDATE announcements SET is_active = ? WHERE announcement_id = ?";
-            try (Connection conn = ConnectionFactory.getInstance().getConnection();
+            try (Connection conn = DBConnection.getConnection();
                  PreparedStatement stmt = conn.prepareStatement(sql)) {
                 stmt.setBoolean(1, active);
                 stmt.setInt(2, id);
-                return stmt.executeUpdate() > 0;
+                boolean changed = stmt.executeUpdate() > 0;
+                CACHE.invalidate();
+                return changed;
             }
         } catch (SQLException e) {
             throw new AppException(ErrorCode.DATABASE_ERROR, "Status toggle failed");
@@ -153,6 +267,25 @@ public class AnnouncementDAOImpl implements AnnouncementDAO {
     }
 
 
+    private void bindInsert(PreparedStatement stmt, Announcement a) throws SQLException {
+        stmt.setString(1, a.getTitle());
+        stmt.setString(2, a.getContent());
+        stmt.setInt(3, a.getEmployeeId());
+        String p = (a.getPriority() != null) ? a.getPriority().name() : "MEDIUM";
+        stmt.setString(4, p);
+        stmt.setObject(5, (a.getValidFrom() != null) ? a.getValidFrom() : java.time.LocalDate.now());
+        stmt.setObject(6, a.getValidUntil());
+    }
+
+    private void bindUpdate(PreparedStatement stmt, Announcement a) throws SQLException {
+        stmt.setString(1, a.getTitle());
+        stmt.setString(2, a.getContent());
+        stmt.setString(3, a.getPriority().name());
+        stmt.setObject(4, a.getValidFrom());
+        stmt.setObject(5, a.getValidUntil());
+        stmt.setInt(6, a.getAnnouncementId());
+    }
+
     private Announcement mapResultSetToAnnouncement(ResultSet rs) throws SQLException {
         Announcement a = new Announcement();
         a.setAnnouncementId(rs.getInt("announcement_id"));
@@ -2,6 +2,9 @@ package com.revature.dao;
 
 import com.revature.exception.AppException;
 import com.revature.model.AuditLog;
+import com.revature.model.AuditLogFilter;
+import com.revature.model.Page;
+import com.revature.model.PageRequest;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.List;
@@ -9,8 +12,11 @@ import java.util.List;
 public interface AuditLogDAO {
     int logAudit(AuditLog log);
     int logAudit(Connection conn, AuditLog log) throws SQLException;
+    int logAll(Connection conn, List<AuditLog> logs) throws SQLException;
     List<AuditLog> findRecent(int limit) throws AppException;
+    Page<AuditLog> search(AuditLogFilter filter, PageRequest request) throws SQLException;
     int deleteOldLogs() throws AppException;
+    int ensurePartitions(int monthsAhead) throws AppException;
 }
 
 
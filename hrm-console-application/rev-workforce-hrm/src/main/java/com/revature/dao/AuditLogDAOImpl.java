@@ -3,21 +3,55 @@ package com.revature.dao;
 import com.revature.model.AuditLog;
 import com.revature.model.AuditLog.ActionType;
 import com.revature.model.AuditLog.EntityType;
+import com.revature.model.AuditLogFilter;
+import com.revature.model.Page;
+import com.revature.model.PageRequest;
 import com.revature.util.DBConnection;
+import com.revature.util.JdbcBatch;
+import com.revature.util.JdbcStream;
 import com.revature.exception.AppException;
 import com.revature.exception.AppException.ErrorCode;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.sql.*;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 public class AuditLogDAOImpl implements AuditLogDAO {
 
     private static final String INSERT_LOG = "INSERT INTO audit_logs (employee_id, action_type, entity_type, entity_id, old_value, new_value, ip_address) VALUES (?, ?, ?, ?, ?, ?, ?)";
     private static final String SELECT_RECENT = "SELECT al.*, CONCAT(e.first_name, ' ', e.last_name) as employee_name FROM audit_logs al LEFT JOIN employees e ON al.employee_id = e.employee_id ORDER BY al.action_timestamp DESC LIMIT ?";
-    private static final String DELETE_OLD_LOGS = "DELETE FROM audit_logs WHERE action_timestamp < DATE_SUB(NOW(), INTERVAL 365 DAY)";
+    private static final String SELECT_RECENT_SINCE = "SELECT al.*, CONCAT(e.first_name, ' ', e.last_name) as employee_name FROM audit_logs al LEFT JOIN employees e ON al.employee_id = e.employee_id WHERE al.action_timestamp >= ? ORDER BY al.action_timestamp DESC LIMIT ?";
+    private static final String SELECT_SEARCH = "SELECT al.*, CONCAT(e.first_name, ' ', e.last_name) as employee_name FROM audit_logs al LEFT JOIN employees e ON al.employee_id = e.employee_id WHERE 1 = 1";
+    private static final String DELETE_OLD_LOGS = "DELETE FROM audit_logs WHERE action_timestamp < ? AND log_id <= ? LIMIT ?";
+    private static final String SELECT_OLD_LOGS = "SELECT * FROM audit_logs WHERE action_timestamp < ? ORDER BY log_id";
+    private static final String SELECT_PARTITIONS = "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM INFORMATION_SCHEMA.PARTITIONS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'audit_logs' AND PARTITION_NAME IS NOT NULL ORDER BY PARTITION_ORDINAL_POSITION";
+    private static final String GET_RETENTION_LOCK = "SELECT GET_LOCK('hrm_audit_retention', 0)";
+    private static final String RELEASE_RETENTION_LOCK = "SELECT RELEASE_LOCK('hrm_audit_retention')";
+    private static final long FLUSH_BEFORE_READ_MS = 2000;
+    private static final int DELETE_CHUNK = 5000;
+    private static final int PARTITION_ARCHIVE_PASSES = 3;
+    private static final Pattern PARTITION_NAME = Pattern.compile("[A-Za-z0-9_]+");
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+//   Returns 0 when the row was queued for the async writer (no key yet), -1 when it was dropped or failed
 
     @Override
     public int logAudit(AuditLog log) {
+        if (AuditLogWriter.enabled()) {
+            return AuditLogWriter.get().submit(log) ? 0 : -1;
+        }
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(INSERT_LOG, Statement.RETURN_GENERATED_KEYS)) {
             setParams(stmt, log);
@@ -39,28 +73,282 @@ public class AuditLogDAOImpl implements AuditLogDAO {
         }
     }
 
+//   Caller's transaction, keeping each row's own action_timestamp (OutboxRelay)
+
+    @Override
+    public int logAll(Connection conn, List<AuditLog> logs) throws SQLException {
+        if (logs.isEmpty()) return 0;
+        return JdbcBatch.execute(conn, AuditLogWriter.INSERT_LOG, logs, AuditLogWriter.BINDER);
+    }
+
     @Override
     public List<AuditLog> findRecent(int limit) {
+        if (AuditLogWriter.enabled()) {
+            AuditLogWriter.get().flush(FLUSH_BEFORE_READ_MS);
+        }
         List<AuditLog> logs = new ArrayList<>();
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_RECENT)) {
-            stmt.setInt(1, limit);
-            ResultSet rs = stmt.executeQuery();
-            while (rs.next()) logs.add(mapRow(rs));
+        try (Connection conn = DBConnection.getConnection()) {
+
+//          Last and current month first (two partitions); only an unusually quiet log falls back to the whole table
+            try (PreparedStatement stmt = conn.prepareStatement(SELECT_RECENT_SINCE)) {
+                stmt.setTimestamp(1, Timestamp.valueOf(LocalDate.now().withDayOfMonth(1).minusMonths(1).atStartOfDay()));
+                stmt.setInt(2, limit);
+                ResultSet rs = stmt.executeQuery();
+                while (rs.next()) logs.add(mapRow(rs));
+            }
+            if (logs.size() < limit) {
+                logs.clear();
+                try (PreparedStatement stmt = conn.prepareStatement(SELECT_RECENT)) {
+                    stmt.setInt(1, limit);
+                    ResultSet rs = stmt.executeQuery();
+                    while (rs.next()) logs.add(mapRow(rs));
+                }
+            }
         } catch (SQLException e) {
             throw new AppException(ErrorCode.DATABASE_ERROR, "Audit fetch failed");
         }
         return logs;
     }
 
+
+//   Filtered, newest-first search  ||  keyset on (action_timestamp, log_id) so page N costs the same as page 1.
+//   Every filter is a leading column of one of the idx_audit_logs_* indexes with action_timestamp behind it,
+//   and the time window prunes partitions.
+
     @Override
-    public int deleteOldLogs() {
+    public Page<AuditLog> search(AuditLogFilter filter, PageRequest request) throws SQLException {
+        if (AuditLogWriter.enabled()) {
+            AuditLogWriter.get().flush(FLUSH_BEFORE_READ_MS);
+        }
+        StringBuilder sql = new StringBuilder(SELECT_SEARCH);
+        List<Object> params = new ArrayList<>();
+        if (filter.getEmployeeId() != null) {
+            sql.append(" AND al.employee_id = ?");
+            params.add(filter.getEmployeeId());
+        }
+        if (filter.getEntityType() != null) {
+            sql.append(" AND al.entity_type = ?");
+            params.add(filter.getEntityType().name());
+        }
+        if (filter.getEntityId() != null) {
+            sql.append(" AND al.entity_id = ?");
+            params.add(filter.getEntityId());
+        }
+        if (filter.getActionType() != null) {
+            sql.append(" AND al.action_type = ?");
+            params.add(filter.getActionType().name());
+        }
+        if (filter.getFrom() != null) {
+            sql.append(" AND al.action_timestamp >= ?");
+            params.add(Timestamp.valueOf(filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            sql.append(" AND al.action_timestamp < ?");
+            params.add(Timestamp.valueOf(filter.getTo()));
+        }
+        if (!request.isFirst()) {
+            Timestamp after = Timestamp.valueOf(request.getAfterTime());
+            sql.append(" AND (al.action_timestamp < ? OR (al.action_timestamp = ? AND al.log_id < ?))");
+            params.add(after);
+            params.add(after);
+            params.add(request.getAfterId());
+        }
+        sql.append(" ORDER BY al.action_timestamp DESC, al.log_id DESC LIMIT ?");
+        params.add(request.getSize() + 1);
+
+        List<AuditLog> logs = new ArrayList<>();
         try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(DELETE_OLD_LOGS)) {
-            return stmt.executeUpdate();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    AuditLog log = mapRow(rs);
+                    log.setEmployeeName(rs.getString("employee_name"));
+                    logs.add(log);
+                }
+            }
+        }
+        return Page.of(logs, request, l -> request.after(l.getActionTimestamp(), l.getLogId()));
+    }
+
+
+//   Retention  ||  months older than audit.retention.months are exported to audit.archive.dir (gzip CSV), then
+//   dropped as whole partitions; rows in a partition that straddles the cutoff go in chunked DELETEs.
+//   An unpartitioned table only gets the chunked DELETEs. GET_LOCK keeps two app instances from racing.
+//   Spool replay can still insert old-dated rows meanwhile, so nothing is removed past the highest log_id exported :
+//   the DELETE is bounded by it, and a partition is only dropped once its row count matches what was archived.
+
+    @Override
+    public int deleteOldLogs() {
+        LocalDate cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(Math.max(1, DBConnection.getIntProperty("audit.retention.months", 12)));
+        String archiveDir = DBConnection.getProperty("audit.archive.dir", "").trim();
+        try (Connection conn = DBConnection.getConnection()) {
+            if (!acquireRetentionLock(conn)) return 0;
+            try {
+                int removed = 0;
+                for (Partition p : listPartitions(conn)) {
+                    if (p.upperBound == null || p.upperBound.isAfter(cutoff)) continue;
+                    String from = "audit_logs PARTITION (" + p.name + ")";
+                    int rows = archiveDir.isEmpty() ? countRows(conn, from) : archivePartition(conn, archiveDir, p.name, from);
+                    if (rows < 0) {
+                        System.err.println("Audit partition " + p.name + " is still receiving rows, kept until the next run");
+                        continue;
+                    }
+                    try (Statement stmt = conn.createStatement()) {
+                        stmt.executeUpdate("ALTER TABLE audit_logs DROP PARTITION " + p.name);
+                    }
+                    removed += rows;
+                }
+
+                Timestamp before = Timestamp.valueOf(cutoff.atStartOfDay());
+                long through = archiveDir.isEmpty() ? Long.MAX_VALUE
+                        : archive(archiveDir, "before_" + cutoff.format(MONTH), SELECT_OLD_LOGS, before).lastLogId();
+                try (PreparedStatement stmt = conn.prepareStatement(DELETE_OLD_LOGS)) {
+                    stmt.setTimestamp(1, before);
+                    stmt.setLong(2, through);
+                    stmt.setInt(3, DELETE_CHUNK);
+                    int deleted;
+                    do {
+                        deleted = stmt.executeUpdate();
+                        removed += deleted;
+                    } while (deleted == DELETE_CHUNK);
+                }
+                return removed;
+            } finally {
+                releaseRetentionLock(conn);
+            }
+        } catch (SQLException | IOException e) {
+            throw new AppException(ErrorCode.DATABASE_ERROR, "Cleanup failed : " + e.getMessage(), e);
+        }
+    }
+
+
+//   Keeps monthsAhead empty months in front of today by splitting pmax  ||  no-op on an unpartitioned table
+
+    @Override
+    public int ensurePartitions(int monthsAhead) {
+        try (Connection conn = DBConnection.getConnection()) {
+            List<Partition> partitions = listPartitions(conn);
+            if (partitions.isEmpty()) return 0;
+
+            LocalDate last = null;
+            boolean hasMax = false;
+            for (Partition p : partitions) {
+                if (p.upperBound == null) hasMax = true;
+                else if (last == null || p.upperBound.isAfter(last)) last = p.upperBound;
+            }
+            LocalDate target = LocalDate.now().withDayOfMonth(1).plusMonths(monthsAhead + 1L);
+            if (last == null) last = LocalDate.now().withDayOfMonth(1);
+
+            List<String> added = new ArrayList<>();
+            for (LocalDate bound = last.plusMonths(1); !bound.isAfter(target); bound = bound.plusMonths(1)) {
+                added.add("PARTITION p" + bound.minusMonths(1).format(MONTH) + " VALUES LESS THAN ('" + bound + "')");
+            }
+            if (added.isEmpty()) return 0;
+
+            String ddl = hasMax
+                    ? "ALTER TABLE audit_logs REORGANIZE PARTITION pmax INTO (" + String.join(", ", added) + ", PARTITION pmax VALUES LESS THAN (MAXVALUE))"
+                    : "ALTER TABLE audit_logs ADD PARTITION (" + String.join(", ", added) + ")";
+            try (Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate(ddl);
+            }
+            return added.size();
         } catch (SQLException e) {
-            throw new AppException(ErrorCode.DATABASE_ERROR, "Cleanup failed");
+            throw new AppException(ErrorCode.DATABASE_ERROR, "Partition maintenance failed : " + e.getMessage(), e);
+        }
+    }
+
+    private List<Partition> listPartitions(Connection conn) throws SQLException {
+        List<Partition> partitions = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_PARTITIONS);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                String name = rs.getString("PARTITION_NAME");
+                if (!PARTITION_NAME.matcher(name).matches()) continue;
+                String bound = rs.getString("PARTITION_DESCRIPTION").replace("'", "").trim();
+                partitions.add(new Partition(name, bound.equalsIgnoreCase("MAXVALUE") ? null : LocalDate.parse(bound.substring(0, 10))));
+            }
+        }
+        return partitions;
+    }
+
+    //   Exports the partition, then anything that landed in it since, until the count matches; -1 if it never settles
+
+    private int archivePartition(Connection conn, String dir, String name, String from) throws SQLException, IOException {
+        int rows = 0;
+        long through = 0;
+        for (int pass = 0; pass < PARTITION_ARCHIVE_PASSES; pass++) {
+            Archived archived = archive(dir, name, "SELECT * FROM " + from + " WHERE log_id > ? ORDER BY log_id", through);
+            rows += archived.rows();
+            through = Math.max(through, archived.lastLogId());
+            if (countRows(conn, from) == rows) return rows;
+        }
+        return -1;
+    }
+
+    private int countRows(Connection conn, String from) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + from)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+
+//   Streams the rows into <dir>/audit_logs-<label>.csv.gz  ||  written to a .tmp file and renamed, so a failed export
+//   never leaves a partial archive and the caller never drops rows that weren't saved
+
+    private Archived archive(String dir, String label, String sql, Object param) throws SQLException, IOException {
+        Path target = Path.of(dir).resolve("audit_logs-" + label + ".csv.gz");
+        if (Files.exists(target)) {
+            target = Path.of(dir).resolve("audit_logs-" + label + "-" + System.currentTimeMillis() + ".csv.gz");
+        }
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.createDirectories(target.getParent());
+
+        int rows = 0;
+        long lastLogId = 0;
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(tmp)), StandardCharsets.UTF_8));
+             Stream<AuditLog> logs = JdbcStream.query(sql, stmt -> stmt.setObject(1, param), this::mapRow)) {
+            out.write("log_id,employee_id,action_type,entity_type,entity_id,old_value,new_value,ip_address,action_timestamp\n");
+            for (AuditLog log : (Iterable<AuditLog>) logs::iterator) {
+                out.write(log.getLogId() + "," + csv(log.getEmployeeId()) + "," + log.getActionType() + "," + log.getEntityType() + ","
+                        + csv(log.getEntityId()) + "," + csv(log.getOldValue()) + "," + csv(log.getNewValue()) + ","
+                        + csv(log.getIpAddress()) + "," + csv(log.getActionTimestamp()) + "\n");
+                rows++;
+                lastLogId = Math.max(lastLogId, log.getLogId());
+            }
+        } catch (SQLException | IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
         }
+        if (rows == 0) {
+            Files.deleteIfExists(tmp);
+        } else {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return new Archived(rows, lastLogId);
+    }
+
+    private static String csv(Object value) {
+        if (value == null) return "";
+        String s = value.toString();
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) return s;
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+
+    private boolean acquireRetentionLock(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(GET_RETENTION_LOCK)) {
+            return rs.next() && rs.getInt(1) == 1;
+        }
+    }
+
+    private void releaseRetentionLock(Connection conn) {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeQuery(RELEASE_RETENTION_LOCK).close();
+        } catch (SQLException ignored) {}
     }
 
     private void setParams(PreparedStatement stmt, AuditLog log) throws SQLException {
@@ -92,6 +380,8 @@ public class AuditLogDAOImpl implements AuditLogDAO {
         return log;
     }
 
+    private record Partition(String name, LocalDate upperBound) {}
 
+    private record Archived(int rows, long lastLogId) {}
 }
 
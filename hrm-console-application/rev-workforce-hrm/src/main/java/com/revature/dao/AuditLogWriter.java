@@ -0,0 +1,397 @@
+package com.revature.dao;
+
+import com.revature.model.AuditLog;
+import com.revature.util.DBConnection;
+import com.revature.util.JdbcBatch;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+//   Write-behind audit pipeline for AuditLogDAOImpl.logAudit.
+//   Callers enqueue and return; one background thread batch-inserts into audit_logs once a batch reaches
+//   audit.batch.size rows or its oldest row is audit.flush.intervalMs old. A full queue follows audit.overflow.
+//   Rows the database can't take (outage, overflow) go to the local AuditSpool and are replayed in order once it is back.
+
+public final class AuditLogWriter {
+
+    public enum Overflow { BLOCK, DROP, SYNC }
+
+    static final String INSERT_LOG = "INSERT INTO audit_logs (employee_id, action_type, entity_type, entity_id, old_value, new_value, ip_address, action_timestamp) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final JdbcBatch.Binder<AuditLog> BINDER = (stmt, log) -> {
+        stmt.setObject(1, log.getEmployeeId());
+        stmt.setString(2, log.getActionType().name());
+        stmt.setString(3, log.getEntityType().name());
+        stmt.setObject(4, log.getEntityId());
+        stmt.setString(5, log.getOldValue());
+        stmt.setString(6, log.getNewValue());
+        stmt.setString(7, log.getIpAddress());
+        stmt.setTimestamp(8, log.getActionTimestamp() != null ? Timestamp.valueOf(log.getActionTimestamp()) : new Timestamp(System.currentTimeMillis()));
+    };
+
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutMs;
+    private final Overflow overflow;
+    private final AuditSpool spool;
+    private final long retryNanos;
+    private final Thread worker;
+    private volatile boolean running = true;
+    private volatile long retryAt;
+
+
+//   Counters exposed through getStats()
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong syncWrites = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong spooled = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong totalLagNanos = new AtomicLong();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+
+    private AuditLogWriter() {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, DBConnection.getIntProperty("audit.queue.capacity", 10000)));
+        this.batchSize = Math.max(1, DBConnection.getIntProperty("audit.batch.size", 200));
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, DBConnection.getIntProperty("audit.flush.intervalMs", 1000)));
+        this.offerTimeoutMs = Math.max(0, DBConnection.getIntProperty("audit.overflow.timeoutMs", 100));
+        this.overflow = parseOverflow(DBConnection.getProperty("audit.overflow", "block"));
+        this.spool = openSpool();
+        this.retryNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(100, DBConnection.getIntProperty("audit.spool.retryMs", 5000)));
+
+        this.worker = new Thread(this::drain, "hrm-audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "hrm-audit-shutdown"));
+    }
+
+    public static boolean enabled() {
+        return Boolean.parseBoolean(DBConnection.getProperty("audit.async", "true"));
+    }
+
+    public static AuditLogWriter get() {
+        return Holder.INSTANCE;
+    }
+
+
+//   Enqueue  ||  false only when the row was dropped by the overflow policy
+
+    boolean submit(AuditLog log) {
+        submitted.incrementAndGet();
+        if (!running) {
+            return writeNow(log);
+        }
+        Pending pending = new Pending(log, System.nanoTime(), null);
+        try {
+            if (queue.offer(pending)) return true;
+            switch (overflow) {
+                case SYNC:
+                    return writeNow(log);
+                case BLOCK:
+                    if (queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS)) return true;
+                    break;
+                default:
+                    break;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return toSpool(List.of(log));
+    }
+
+
+//   Blocks until everything queued before this call is in audit_logs (or the timeout passes)
+
+    public boolean flush(long timeoutMs) {
+        if (!running || !worker.isAlive()) return queue.isEmpty();
+        CountDownLatch done = new CountDownLatch(1);
+        try {
+            if (!queue.offer(new Pending(null, System.nanoTime(), done), timeoutMs, TimeUnit.MILLISECONDS)) return false;
+            return done.await(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public synchronized void shutdown() {
+        if (!running) return;
+        running = false;
+        try {
+            worker.join(Math.max(5000, TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) * 2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            List<Pending> rest = new ArrayList<>();
+            queue.drainTo(rest);
+            writeBatch(rest);
+        }
+        if (spool != null) spool.close();
+        if (dropped.get() > 0 || failedBatches.get() > 0 || getSpoolPending() > 0) {
+            System.err.println("Audit writer stopped " + getStats());
+        }
+    }
+
+    private void drain() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        List<CountDownLatch> waiters = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                boolean more = replay();
+                Pending first = queue.poll(more ? 0 : flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) continue;
+                collect(first, batch, waiters);
+
+                long deadline = first.enqueuedAt + flushIntervalNanos;
+                while (batch.size() < batchSize && waiters.isEmpty() && running) {
+                    long wait = deadline - System.nanoTime();
+                    if (wait <= 0) break;
+                    Pending next = queue.poll(wait, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    collect(next, batch, waiters);
+                }
+
+                writeBatch(batch);
+                batch.clear();
+                waiters.forEach(CountDownLatch::countDown);
+                waiters.clear();
+            } catch (InterruptedException e) {
+                if (!running) break;
+            } catch (RuntimeException e) {
+                //  Not spooled : replay would fail on the same rows again
+                System.err.println("Audit writer error, " + batch.size() + " row(s) dropped : " + e.getMessage());
+                dropped.addAndGet(batch.size());
+                batch.clear();
+                waiters.forEach(CountDownLatch::countDown);
+                waiters.clear();
+            }
+        }
+        if (!batch.isEmpty()) writeBatch(batch);
+    }
+
+    private void collect(Pending pending, List<Pending> batch, List<CountDownLatch> waiters) {
+        if (pending.flushed != null) {
+            waiters.add(pending.flushed);
+        } else {
+            batch.add(pending);
+        }
+        if (waiters.isEmpty()) {
+            List<Pending> more = new ArrayList<>();
+            queue.drainTo(more, batchSize - batch.size());
+            for (Pending p : more) {
+                if (p.flushed != null) waiters.add(p.flushed);
+                else batch.add(p);
+            }
+        }
+    }
+
+
+//   One transaction per batch. While the spool holds older rows (or the database is backing off) new rows
+//   queue behind them on disk so audit_logs keeps its order; a batch that fails on data is retried row by row.
+
+    private void writeBatch(List<Pending> batch) {
+        if (batch.isEmpty()) return;
+        List<AuditLog> logs = new ArrayList<>(batch.size());
+        for (Pending p : batch) logs.add(p.log);
+        if (spool != null && (spool.hasPending() || backingOff())) {
+            toSpool(logs);
+            return;
+        }
+        try {
+            JdbcBatch.execute(INSERT_LOG, logs, BINDER);
+            batches.incrementAndGet();
+            written.addAndGet(logs.size());
+            recordLag(batch);
+        } catch (SQLException e) {
+            failedBatches.incrementAndGet();
+            if (spool != null && isUnavailable(e)) {
+                System.err.println("Audit batch of " + logs.size() + " spooled, database unavailable : " + e.getMessage());
+                retryAt = System.nanoTime() + retryNanos;
+                toSpool(logs);
+                return;
+            }
+            System.err.println("Audit batch of " + logs.size() + " failed, retrying per row : " + e.getMessage());
+            for (int i = 0; i < batch.size(); i++) {
+                try {
+                    insertRow(batch.get(i).log);
+                    recordLag(batch.subList(i, i + 1));
+                } catch (SQLException rowFailure) {
+                    if (spool != null && isUnavailable(rowFailure)) {
+                        System.err.println("Audit rows spooled, database unavailable : " + rowFailure.getMessage());
+                        retryAt = System.nanoTime() + retryNanos;
+                        toSpool(logs.subList(i, logs.size()));
+                        return;
+                    }
+                    System.err.println("Audit row rejected : " + rowFailure.getMessage());
+                    dropped.incrementAndGet();
+                }
+            }
+        }
+    }
+
+
+//   Replays one batch from the spool  ||  true when more is waiting and the database is taking writes
+
+    private boolean replay() {
+        if (spool == null || !spool.hasPending() || backingOff()) return false;
+        List<AuditLog> logs = spool.peek(batchSize);
+        try {
+            JdbcBatch.execute(INSERT_LOG, logs, BINDER);
+            written.addAndGet(logs.size());
+        } catch (SQLException e) {
+            if (isUnavailable(e)) {
+                retryAt = System.nanoTime() + retryNanos;
+                return false;
+            }
+            System.err.println("Audit spool batch failed, replaying per row : " + e.getMessage());
+            for (int i = 0; i < logs.size(); i++) {
+                try {
+                    insertRow(logs.get(i));
+                } catch (SQLException rowFailure) {
+                    if (isUnavailable(rowFailure)) {
+                        retryAt = System.nanoTime() + retryNanos;
+                        spool.commit(i);
+                        replayed.addAndGet(i);
+                        return false;
+                    }
+                    System.err.println("Audit spool row rejected : " + rowFailure.getMessage());
+                    dropped.incrementAndGet();
+                }
+            }
+        }
+        spool.commit();
+        replayed.addAndGet(logs.size());
+        return spool.hasPending();
+    }
+
+    private boolean writeNow(AuditLog log) {
+        syncWrites.incrementAndGet();
+        if (spool != null && (spool.hasPending() || backingOff())) return toSpool(List.of(log));
+        if (insert(log)) return true;
+        return toSpool(List.of(log));
+    }
+
+    private boolean insert(AuditLog log) {
+        try {
+            insertRow(log);
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Audit write failed : " + e.getMessage());
+            return false;
+        }
+    }
+
+
+//   Single-row write for the per-row fallbacks  ||  the caller decides between "database down" and "bad row"
+
+    private void insertRow(AuditLog log) throws SQLException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(INSERT_LOG)) {
+            BINDER.bind(stmt, log);
+            stmt.executeUpdate();
+            written.incrementAndGet();
+        }
+    }
+
+    private boolean toSpool(List<AuditLog> logs) {
+        if (spool != null && spool.append(logs)) {
+            spooled.addAndGet(logs.size());
+            return true;
+        }
+        dropped.addAndGet(logs.size());
+        return false;
+    }
+
+    private boolean backingOff() {
+        return retryAt != 0 && System.nanoTime() - retryAt < 0;
+    }
+
+
+//   Connection-level failures (SQLState class 08, pool timeouts) mean "try later"; anything else is the row's fault
+
+    private static boolean isUnavailable(SQLException e) {
+        String state = e.getSQLState();
+        return e instanceof SQLTransientConnectionException || e instanceof SQLNonTransientConnectionException
+                || e instanceof SQLTimeoutException || e instanceof SQLRecoverableException
+                || state != null && state.startsWith("08");
+    }
+
+    private static AuditSpool openSpool() {
+        if (!Boolean.parseBoolean(DBConnection.getProperty("audit.spool.enabled", "true"))) return null;
+        try {
+            return new AuditSpool(Path.of(DBConnection.getProperty("audit.spool.dir", "audit-spool")),
+                    DBConnection.getIntProperty("audit.spool.segmentBytes", 4 * 1024 * 1024),
+                    DBConnection.getIntProperty("audit.spool.maxSegments", 64),
+                    Boolean.parseBoolean(DBConnection.getProperty("audit.spool.fsync", "false")));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Audit spool unavailable, rows the database can't take will be dropped : " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void recordLag(List<Pending> batch) {
+        long now = System.nanoTime();
+        for (Pending p : batch) {
+            long lag = now - p.enqueuedAt;
+            totalLagNanos.addAndGet(lag);
+            maxLagNanos.accumulateAndGet(lag, Math::max);
+        }
+    }
+
+    private static Overflow parseOverflow(String value) {
+        try {
+            return Overflow.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            System.err.println("Unknown audit.overflow '" + value + "', using block");
+            return Overflow.BLOCK;
+        }
+    }
+
+    public int getQueueDepth() { return queue.size(); }
+    public long getSubmitted() { return submitted.get(); }
+    public long getWritten() { return written.get(); }
+    public long getDropped() { return dropped.get(); }
+    public long getFailedBatches() { return failedBatches.get(); }
+    public long getSpooled() { return spooled.get(); }
+    public long getReplayed() { return replayed.get(); }
+    public long getSpoolPending() { return spool == null ? 0 : spool.pending(); }
+
+    public long getAvgLagMillis() {
+        long count = written.get() - syncWrites.get();
+        return count <= 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLagNanos.get() / count);
+    }
+
+    public long getMaxLagMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get());
+    }
+
+    public String getStats() {
+        return String.format("[queued=%d, submitted=%d, written=%d, batches=%d, sync=%d, dropped=%d, failedBatches=%d, "
+                        + "spooled=%d, replayed=%d, spoolPending=%d, avgLag=%dms, maxLag=%dms]",
+                getQueueDepth(), getSubmitted(), getWritten(), batches.get(), syncWrites.get(), getDropped(),
+                getFailedBatches(), getSpooled(), getReplayed(), getSpoolPending(), getAvgLagMillis(), getMaxLagMillis());
+    }
+
+
+//   A queued row, or a flush marker (log == null) whose latch opens once everything ahead of it is written
+
+    private record Pending(AuditLog log, long enqueuedAt, CountDownLatch flushed) {}
+
+    private static final class Holder {
+        private static final AuditLogWriter INSTANCE = new AuditLogWriter();
+    }
+}
@@ -0,0 +1,385 @@
+package com.revature.dao;
+
+import com.revature.model.AuditLog;
+import com.revature.model.AuditLog.ActionType;
+import com.revature.model.AuditLog.EntityType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+
+//   Local append-only spool for audit rows the database could not take (AuditLogWriter).
+//   Memory-mapped segment files : header [magic][read offset], then records [length][crc32][payload].
+//   A torn or corrupt tail is cut at the first bad CRC; a segment is deleted once everything in it is replayed.
+
+final class AuditSpool {
+
+    private static final int MAGIC = 0x41554431;
+    private static final int HEADER = 8;
+    private static final int RECORD_HEADER = 8;
+    private static final String SUFFIX = ".seg";
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final boolean fsync;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long nextSequence;
+    private long pending;
+    private int peekedThrough = -1;
+    private final List<Integer> peekedEnds = new ArrayList<>();
+
+    AuditSpool(Path dir, int segmentBytes, int maxSegments, boolean fsync) throws IOException {
+        this.dir = dir;
+        this.segmentBytes = Math.max(64 * 1024, segmentBytes);
+        this.maxSegments = Math.max(1, maxSegments);
+        this.fsync = fsync;
+        Files.createDirectories(dir);
+        recover();
+    }
+
+
+//   Append  ||  all or nothing; false when the rows don't fit (audit.spool.maxSegments) or the disk write failed
+
+    synchronized boolean append(List<AuditLog> logs) {
+        List<byte[]> payloads = new ArrayList<>(logs.size());
+        try {
+            for (AuditLog log : logs) payloads.add(encode(log));
+        } catch (IOException e) {
+            System.err.println("Audit spool write failed : " + e.getMessage());
+            return false;
+        }
+        if (segmentsNeeded(payloads) > maxSegments) return false;
+
+        Segment start = segments.peekLast();
+        int startPos = start == null ? 0 : start.writePos;
+        boolean startSealed = start != null && start.sealed;
+        int startSegments = segments.size();
+        try {
+            for (byte[] payload : payloads) {
+                Segment tail = segments.peekLast();
+                if (!fits(tail, payload)) {
+                    if (tail != null) tail.sealed = true;
+                    tail = create(Math.max(segmentBytes, HEADER + RECORD_HEADER + payload.length));
+                    segments.addLast(tail);
+                }
+                tail.write(payload);
+            }
+            pending += payloads.size();
+            if (fsync && !payloads.isEmpty()) segments.peekLast().buf.force();
+            return true;
+        } catch (IOException e) {
+            System.err.println("Audit spool write failed : " + e.getMessage());
+            while (segments.size() > startSegments) segments.pollLast().delete();
+            if (start != null) start.truncate(startPos, startSealed);
+            return false;
+        }
+    }
+
+    private int segmentsNeeded(List<byte[]> payloads) {
+        Segment tail = segments.peekLast();
+        int count = segments.size();
+        int pos = tail == null || tail.sealed ? -1 : tail.writePos;
+        int capacity = tail == null ? 0 : tail.buf.capacity();
+        for (byte[] payload : payloads) {
+            if (pos < 0 || pos + RECORD_HEADER + payload.length > capacity) {
+                count++;
+                pos = HEADER;
+                capacity = Math.max(segmentBytes, HEADER + RECORD_HEADER + payload.length);
+            }
+            pos += RECORD_HEADER + payload.length;
+        }
+        return count;
+    }
+
+    private static boolean fits(Segment tail, byte[] payload) {
+        return tail != null && !tail.sealed && tail.writePos + RECORD_HEADER + payload.length <= tail.buf.capacity();
+    }
+
+
+//   Oldest rows not yet replayed; commit() marks them done once they are in audit_logs
+
+    synchronized List<AuditLog> peek(int max) {
+        List<AuditLog> out = new ArrayList<>();
+        peekedEnds.clear();
+        dropConsumedHead();
+        Segment head = segments.peekFirst();
+        if (head == null) return out;
+
+        int pos = head.readPos;
+        while (out.size() < max && pos < head.writePos) {
+            int length = head.buf.getInt(pos);
+            byte[] payload = new byte[length];
+            head.buf.get(pos + RECORD_HEADER, payload);
+            pos += RECORD_HEADER + length;
+            try {
+                out.add(decode(payload));
+                peekedEnds.add(pos);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Skipping unreadable audit spool record : " + e.getMessage());
+            }
+        }
+        peekedThrough = pos;
+        return out;
+    }
+
+    synchronized void commit() {
+        advance(peekedThrough);
+    }
+
+
+//   Only the first rows of the last peek are done (replay stopped on an outage); the rest are peeked again later
+
+    synchronized void commit(int rows) {
+        if (rows >= peekedEnds.size()) advance(peekedThrough);
+        else advance(rows > 0 ? peekedEnds.get(rows - 1) : -1);
+    }
+
+    private void advance(int through) {
+        Segment head = segments.peekFirst();
+        if (head != null && through >= 0) {
+            pending -= countBetween(head, head.readPos, through);
+            head.readPos = through;
+            head.buf.putInt(4, through);
+            if (fsync) head.buf.force();
+        }
+        peekedThrough = -1;
+        peekedEnds.clear();
+        dropConsumedHead();
+    }
+
+    synchronized long pending() {
+        return pending;
+    }
+
+    synchronized boolean hasPending() {
+        return pending > 0;
+    }
+
+    synchronized void close() {
+        for (Segment s : segments) {
+            s.buf.force();
+            try {
+                s.channel.close();
+            } catch (IOException ignored) {}
+        }
+    }
+
+    private void recover() throws IOException {
+        TreeMap<Long, Path> files = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "audit-*" + SUFFIX)) {
+            for (Path p : stream) {
+                String name = p.getFileName().toString();
+                try {
+                    files.put(Long.parseLong(name.substring(6, name.length() - SUFFIX.length())), p);
+                } catch (NumberFormatException e) {
+                    System.err.println("Ignoring unexpected file in audit spool : " + name);
+                }
+            }
+        }
+        for (var entry : files.entrySet()) {
+            nextSequence = entry.getKey() + 1;
+            Segment s = open(entry.getValue());
+            if (s == null) continue;
+            if (s.readPos >= s.writePos) {
+                s.delete();
+                continue;
+            }
+            s.sealed = true;
+            pending += countBetween(s, s.readPos, s.writePos);
+            segments.addLast(s);
+        }
+        if (pending > 0) {
+            System.err.println("Audit spool has " + pending + " row(s) from an earlier run, replaying");
+        }
+    }
+
+    private Segment open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        if (size < HEADER) {
+            channel.close();
+            Files.deleteIfExists(path);
+            return null;
+        }
+        MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        if (buf.getInt(0) != MAGIC) {
+            channel.close();
+            System.err.println("Audit spool segment " + path.getFileName() + " has no header, leaving it in place");
+            return null;
+        }
+        Segment s = new Segment(path, channel, buf);
+        s.writePos = scan(buf);
+        s.readPos = Math.min(Math.max(HEADER, buf.getInt(4)), s.writePos);
+        return s;
+    }
+
+    private Segment create(int size) throws IOException {
+        long sequence = nextSequence++;
+        Path path = dir.resolve(String.format("audit-%016d%s", sequence, SUFFIX));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buf.putInt(0, MAGIC);
+        buf.putInt(4, HEADER);
+        Segment s = new Segment(path, channel, buf);
+        s.readPos = HEADER;
+        s.writePos = HEADER;
+        return s;
+    }
+
+
+//   End of the valid records  ||  stops at a zero length (never written) or the first CRC mismatch (torn write)
+
+    private static int scan(MappedByteBuffer buf) {
+        int pos = HEADER;
+        CRC32 crc = new CRC32();
+        while (pos + RECORD_HEADER <= buf.capacity()) {
+            int length = buf.getInt(pos);
+            if (length <= 0 || pos + RECORD_HEADER + length > buf.capacity()) break;
+            byte[] payload = new byte[length];
+            buf.get(pos + RECORD_HEADER, payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != buf.getInt(pos + 4)) break;
+            pos += RECORD_HEADER + length;
+        }
+        return pos;
+    }
+
+    private static int countBetween(Segment s, int from, int to) {
+        int count = 0;
+        for (int pos = from; pos < to; pos += RECORD_HEADER + s.buf.getInt(pos)) count++;
+        return count;
+    }
+
+    private void dropConsumedHead() {
+        while (!segments.isEmpty()) {
+            Segment head = segments.peekFirst();
+            if (head.readPos < head.writePos || !head.sealed && segments.size() == 1) return;
+            segments.pollFirst();
+            head.delete();
+        }
+    }
+
+    private static byte[] encode(AuditLog log) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeInt(out, log.getEmployeeId());
+        writeString(out, log.getActionType().name());
+        writeString(out, log.getEntityType().name());
+        writeInt(out, log.getEntityId());
+        writeString(out, log.getOldValue());
+        writeString(out, log.getNewValue());
+        writeString(out, log.getIpAddress());
+        LocalDateTime ts = log.getActionTimestamp() != null ? log.getActionTimestamp() : LocalDateTime.now();
+        out.writeLong(ts.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(ts.getNano());
+        return bytes.toByteArray();
+    }
+
+    private static AuditLog decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        AuditLog log = new AuditLog();
+        log.setEmployeeId(readInt(in));
+        log.setActionType(ActionType.valueOf(readString(in)));
+        log.setEntityType(EntityType.valueOf(readString(in)));
+        log.setEntityId(readInt(in));
+        log.setOldValue(readString(in));
+        log.setNewValue(readString(in));
+        log.setIpAddress(readString(in));
+        log.setActionTimestamp(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC));
+        return log;
+    }
+
+    private static void writeInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeInt(value);
+    }
+
+    private static Integer readInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] b = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(b.length);
+        out.write(b);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) return null;
+        byte[] b = new byte[length];
+        in.readFully(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+
+//   One mapped segment file  ||  the length is written last so a reader never sees half a record
+
+    private static final class Segment {
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buf;
+        private int readPos;
+        private int writePos;
+        private boolean sealed;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buf) {
+            this.path = path;
+            this.channel = channel;
+            this.buf = buf;
+        }
+
+        private void write(byte[] payload) {
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            buf.put(writePos + RECORD_HEADER, payload);
+            buf.putInt(writePos + 4, (int) crc.getValue());
+            buf.putInt(writePos, payload.length);
+            writePos += RECORD_HEADER + payload.length;
+        }
+
+
+//   Undo writes past pos  ||  a zero length there is where scan() stops after a restart
+
+        private void truncate(int pos, boolean wasSealed) {
+            if (pos + RECORD_HEADER <= buf.capacity()) buf.putInt(pos, 0);
+            writePos = pos;
+            sealed = wasSealed;
+        }
+
+
+//   Some platforms refuse to delete a file that is still mapped; the read offset already says it is done
+
+        private void delete() {
+            try {
+                channel.close();
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                System.err.println("Could not remove replayed audit spool segment " + path.getFileName() + " : " + e.getMessage());
+            }
+        }
+    }
+}
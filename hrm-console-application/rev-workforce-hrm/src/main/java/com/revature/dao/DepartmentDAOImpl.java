@@ -2,6 +2,7 @@ package com.revature.dao;
 
 import com.revature.model.Department;
 import com.revature.util.DBConnection;
+import com.revature.util.ReferenceCache;
 import com.revature.exception.AppException;
 import com.revature.exception.AppException.ErrorCode;
 import java.sql.*;
@@ -11,6 +12,12 @@ import java.util.Optional;
 
 public class DepartmentDAOImpl implements DepartmentDAO {
 
+    private static final ReferenceCache CACHE = ReferenceCache.region("departments");
+
+    static {
+        CACHE.onInvalidate(() -> EmployeeSearchIndex.get().invalidate());
+    }
+
     private static final String SELECT_ALL = "SELECT * FROM departments WHERE is_active = TRUE ORDER BY department_name";
     private static final String SELECT_BY_ID = "SELECT * FROM departments WHERE department_id = ?";
     private static final String INSERT_DEPARTMENT = "INSERT INTO departments (department_name, description) VALUES (?, ?)";
@@ -18,33 +25,37 @@ public class DepartmentDAOImpl implements DepartmentDAO {
 
     @Override
     public List<Department> findAll() {
-        List<Department> departments = new ArrayList<>();
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_ALL);
-             ResultSet rs = stmt.executeQuery()) {
-            while (rs.next()) {
-                departments.add(mapResultSetToDepartment(rs));
+        return CACHE.get("all", () -> {
+            List<Department> departments = new ArrayList<>();
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_ALL);
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    departments.add(mapResultSetToDepartment(rs));
+                }
+            } catch (SQLException e) {
+                throw new AppException(ErrorCode.DATABASE_ERROR, "Error fetching departments");
             }
-        } catch (SQLException e) {
-            throw new AppException(ErrorCode.DATABASE_ERROR, "Error fetching departments");
-        }
-        return departments;
+            return departments;
+        });
     }
 
     @Override
     public Optional<Department> findById(int id) {
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_BY_ID)) {
-            stmt.setInt(1, id);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapResultSetToDepartment(rs));
+        return CACHE.get("id:" + id, () -> {
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_BY_ID)) {
+                stmt.setInt(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        return Optional.of(mapResultSetToDepartment(rs));
+                    }
                 }
+            } catch (SQLException e) {
+                throw new AppException(ErrorCode.DATABASE_ERROR, "Error finding department");
             }
-        } catch (SQLException e) {
-            throw new AppException(ErrorCode.DATABASE_ERROR, "Error finding department");
-        }
-        return Optional.empty();
+            return Optional.<Department>empty();
+        });
     }
 
     @Override
@@ -54,6 +65,7 @@ public class DepartmentDAOImpl implements DepartmentDAO {
             stmt.setString(1, department.getDepartmentName());
             stmt.setString(2, department.getDescription());
             stmt.executeUpdate();
+            CACHE.invalidate();
             try (ResultSet rs = stmt.getGeneratedKeys()) {
                 if (rs.next()) return rs.getInt(1);
             }
@@ -70,7 +82,9 @@ public class DepartmentDAOImpl implements DepartmentDAO {
             stmt.setString(1, department.getDepartmentName());
             stmt.setString(2, department.getDescription());
             stmt.setInt(3, department.getDepartmentId());
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            CACHE.invalidate();
+            return updated;
         } catch (SQLException e) {
             throw new AppException(ErrorCode.DATABASE_ERROR, "Error updating department");
         }
@@ -89,23 +103,25 @@ public class DepartmentDAOImpl implements DepartmentDAO {
 
     @Override
     public List<Department> getAll() throws AppException {
-        List<Department> list = new ArrayList<>();
-        String sql = "SELECT * FROM departments";
+        return CACHE.get("names", () -> {
+            List<Department> list = new ArrayList<>();
+            String sql = "SELECT * FROM departments";
 
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql);
-             ResultSet rs = stmt.executeQuery()) {
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql);
+                 ResultSet rs = stmt.executeQuery()) {
 
-            while (rs.next()) {
-                Department dept = new Department();
-                dept.setDepartmentId(rs.getInt("department_id"));
-                dept.setDepartmentName(rs.getString("department_name"));
-                list.add(dept);
+                while (rs.next()) {
+                    Department dept = new Department();
+                    dept.setDepartmentId(rs.getInt("department_id"));
+                    dept.setDepartmentName(rs.getString("department_name"));
+                    list.add(dept);
+                }
+            } catch (SQLException e) {
+                throw new AppException(AppException.ErrorCode.DATABASE_ERROR);
             }
-        } catch (SQLException e) {
-            throw new AppException(AppException.ErrorCode.DATABASE_ERROR);
-        }
-        return list;
+            return list;
+        });
     }
 }
 
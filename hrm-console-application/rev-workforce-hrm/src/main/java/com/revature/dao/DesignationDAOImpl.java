@@ -2,6 +2,7 @@ package com.revature.dao;
 
 import com.revature.model.Designation;
 import com.revature.util.DBConnection;
+import com.revature.util.ReferenceCache;
 import com.revature.exception.AppException;
 import com.revature.exception.AppException.ErrorCode;
 import java.sql.*;
@@ -11,6 +12,8 @@ import java.util.Optional;
 
 public class DesignationDAOImpl implements DesignationDAO {
 
+    private static final ReferenceCache CACHE = ReferenceCache.region("designations");
+
     private static final String SELECT_ALL = "SELECT * FROM designations WHERE is_active = TRUE ORDER BY level, designation_name";
     private static final String SELECT_BY_ID = "SELECT * FROM designations WHERE designation_id = ?";
     private static final String INSERT_DESIGNATION = "INSERT INTO designations (designation_name, level) VALUES (?, ?)";
@@ -18,50 +21,56 @@ public class DesignationDAOImpl implements DesignationDAO {
 
     @Override
     public List<Designation> findAll() {
-        List<Designation> list = new ArrayList<>();
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_ALL);
-             ResultSet rs = stmt.executeQuery()) {
-            while (rs.next()) list.add(mapResultSetToDesignation(rs));
-        } catch (SQLException e) {
-            throw new AppException(ErrorCode.DATABASE_ERROR, "Error fetching designations");
-        }
-        return list;
+        return CACHE.get("all", () -> {
+            List<Designation> list = new ArrayList<>();
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_ALL);
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapResultSetToDesignation(rs));
+            } catch (SQLException e) {
+                throw new AppException(ErrorCode.DATABASE_ERROR, "Error fetching designations");
+            }
+            return list;
+        });
     }
 
     @Override
     public List<Designation> getAll() throws AppException {
-        List<Designation> list = new ArrayList<>();
-        String sql = "SELECT * FROM designations";
-
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql);
-             ResultSet rs = stmt.executeQuery()) {
-
-            while (rs.next()) {
-                Designation desig = new Designation();
-                desig.setDesignationId(rs.getInt("designation_id"));
-                desig.setDesignationName(rs.getString("designation_name"));
-                list.add(desig);
+        return CACHE.get("names", () -> {
+            List<Designation> list = new ArrayList<>();
+            String sql = "SELECT * FROM designations";
+
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql);
+                 ResultSet rs = stmt.executeQuery()) {
+
+                while (rs.next()) {
+                    Designation desig = new Designation();
+                    desig.setDesignationId(rs.getInt("designation_id"));
+                    desig.setDesignationName(rs.getString("designation_name"));
+                    list.add(desig);
+                }
+            } catch (SQLException e) {
+                throw new AppException(AppException.ErrorCode.DATABASE_ERROR);
             }
-        } catch (SQLException e) {
-            throw new AppException(AppException.ErrorCode.DATABASE_ERROR);
-        }
-        return list;
+            return list;
+        });
     }
 
     @Override
     public Optional<Designation> findById(int id) {
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_BY_ID)) {
-            stmt.setInt(1, id);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) return Optional.of(mapResultSetToDesignation(rs));
+        return CACHE.get("id:" + id, () -> {
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_BY_ID)) {
+                stmt.setInt(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) return Optional.of(mapResultSetToDesignation(rs));
+                }
+            } catch (SQLException e) {
+                throw new AppException(ErrorCode.DATABASE_ERROR, "Error finding designation");
             }
-        } catch (SQLException e) {
-            throw new AppException(ErrorCode.DATABASE_ERROR, "Error finding designation");
-        }
-        return Optional.empty();
+            return Optional.<Designation>empty();
+        });
     }
 
     @Override
@@ -72,6 +81,7 @@ public class DesignationDAOImpl implements DesignationDAO {
             stmt.setString(1, designation.getDesignationName());
             stmt.setInt(2, designation.getLevel());
             stmt.executeUpdate();
+            CACHE.invalidate();
 
             try (ResultSet rs = stmt.getGeneratedKeys()) {
                 if (rs.next()) return rs.getInt(1);
@@ -91,7 +101,9 @@ public class DesignationDAOImpl implements DesignationDAO {
             stmt.setInt(2, designation.getLevel());
             stmt.setInt(3, designation.getDesignationId());
 
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            CACHE.invalidate();
+            return updated;
         } catch (SQLException e) {
             throw new AppException(ErrorCode.DATABASE_ERROR, "Error updating designation");
         }
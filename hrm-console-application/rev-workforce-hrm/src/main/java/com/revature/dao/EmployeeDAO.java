@@ -1,6 +1,9 @@
 package com.revature.dao;
 
 import com.revature.model.Employee;
+import com.revature.model.ReportingNode;
+import com.revature.model.TeamSummary;
+import com.revature.util.OrgTree;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
@@ -21,6 +24,12 @@ public interface EmployeeDAO extends GenericDAO<Employee> {
 
 
     List<Employee> findByManagerId(int managerId);
+    List<Employee> findByIds(List<Integer> ids) throws SQLException;
+    OrgTree getOrgTree() throws SQLException;
+
+    List<ReportingNode> findSubtree(int managerId) throws SQLException;
+    List<Employee> findManagementChain(int employeeId) throws SQLException;
+    List<TeamSummary> findTeamSummaries(int managerId) throws SQLException;
     List<Employee> findBirthdaysThisMonth();
     List<Employee> findWorkAnniversariesThisMonth();
     String getNextEmployeeCode();
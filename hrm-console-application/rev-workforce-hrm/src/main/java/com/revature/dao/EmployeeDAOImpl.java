@@ -3,16 +3,32 @@ package com.revature.dao;
 import com.revature.exception.AppException;
 import com.revature.model.Employee;
 import com.revature.model.Employee.Role;
-import com.revature.util.ConnectionFactory;
+import com.revature.model.Page;
+import com.revature.model.PageRequest;
+import com.revature.model.ReportingNode;
+import com.revature.model.TeamSummary;
+import com.revature.util.DBConnection;
+import com.revature.util.JdbcBatch;
+import com.revature.util.JdbcStream;
+import com.revature.util.OrgTree;
 import com.revature.util.ConsoleUtil;
 import java.math.BigDecimal;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 public class EmployeeDAOImpl implements EmployeeDAO {
 
+    private static final String INSERT_SQL = "INSERT INTO employees (employee_code, first_name, last_name, email, password, phone, address, date_of_birth, emergency_contact, department_id, designation_id, manager_id, role, salary, joining_date, security_question, security_answer) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)";
+    private static final String UPDATE_SQL = "UPDATE employees SET first_name=?, last_name=?, email=?, department_id=?, designation_id=?, role=?, salary=? WHERE employee_id=?";
+    private static final String SOFT_DELETE_SQL = "UPDATE employees SET is_deleted = TRUE WHERE employee_id = ?";
+
     private static final String SELECT_BASE = """
         SELECT e.*, d.department_name, des.designation_name,
             CONCAT(m.first_name, ' ', m.last_name) as manager_name
@@ -22,19 +38,89 @@ public class EmployeeDAOImpl implements EmployeeDAO {
         LEFT JOIN employees m ON e.manager_id = m.employee_id
         """;
 
+    private static final String SELECT_PAGE = SELECT_BASE + " WHERE e.is_deleted = FALSE AND e.employee_id > ? ORDER BY e.employee_id LIMIT ?";
+    private static final String SELECT_MANAGER_LINKS = "SELECT employee_id, manager_id FROM employees WHERE is_deleted = FALSE";
+
+
+    //   WITH RECURSIVE over manager_id  ||  lvl caps the walk so a manager_id cycle can't recurse forever
+
+    private static final int MAX_ORG_DEPTH = 64;
+
+    private static final String SELECT_SUBTREE = """
+        WITH RECURSIVE org AS (
+            SELECT employee_id, 1 AS lvl, CAST(LPAD(employee_id, 10, '0') AS CHAR(1000)) AS path
+            FROM employees WHERE manager_id = ? AND is_deleted = FALSE
+            UNION ALL
+            SELECT c.employee_id, org.lvl + 1, CONCAT(org.path, '/', LPAD(c.employee_id, 10, '0'))
+            FROM employees c JOIN org ON c.manager_id = org.employee_id
+            WHERE c.is_deleted = FALSE AND org.lvl < ?
+        )
+        SELECT e.*, d.department_name, des.designation_name,
+            CONCAT(m.first_name, ' ', m.last_name) as manager_name, org.lvl
+        FROM org
+        JOIN employees e ON e.employee_id = org.employee_id
+        LEFT JOIN departments d ON e.department_id = d.department_id
+        LEFT JOIN designations des ON e.designation_id = des.designation_id
+        LEFT JOIN employees m ON e.manager_id = m.employee_id
+        ORDER BY org.path
+        """;
+
+    private static final String SELECT_CHAIN = """
+        WITH RECURSIVE chain AS (
+            SELECT manager_id AS employee_id, 1 AS lvl FROM employees WHERE employee_id = ?
+            UNION ALL
+            SELECT p.manager_id, chain.lvl + 1
+            FROM employees p JOIN chain ON p.employee_id = chain.employee_id
+            WHERE p.manager_id IS NOT NULL AND chain.lvl < ?
+        )
+        """ + SELECT_BASE + " JOIN chain ON chain.employee_id = e.employee_id ORDER BY chain.lvl";
+
+    private static final String SELECT_TEAM_SUMMARIES = """
+        WITH RECURSIVE org AS (
+            SELECT employee_id, employee_id AS lead_id, salary, 1 AS lvl
+            FROM employees WHERE manager_id = ? AND is_deleted = FALSE
+            UNION ALL
+            SELECT c.employee_id, org.lead_id, c.salary, org.lvl + 1
+            FROM employees c JOIN org ON c.manager_id = org.employee_id
+            WHERE c.is_deleted = FALSE AND org.lvl < ?
+        )
+        SELECT org.lead_id, CONCAT(l.first_name, ' ', l.last_name) AS lead_name,
+            COUNT(*) AS headcount, COALESCE(SUM(org.salary), 0) AS total_salary, MAX(org.lvl) AS depth
+        FROM org JOIN employees l ON l.employee_id = org.lead_id
+        GROUP BY org.lead_id, l.first_name, l.last_name
+        ORDER BY headcount DESC, org.lead_id
+        """;
+
+
+    //   Org chart built from manager_id on first use, dropped on any write that moves people in or out of it
+
+    private static volatile OrgTree orgTree;
+    private static final AtomicLong orgVersion = new AtomicLong();
+
+
+    //   search.mode  ||  index = in-memory n-gram index (EmployeeSearchIndex), fulltext = MATCH ... AGAINST, like = LIKE scan
+
+    private static final String SEARCH_MODE = DBConnection.getProperty("search.mode", "index").trim().toLowerCase();
+    private static final int SEARCH_LIMIT = DBConnection.getIntProperty("search.limit", 50);
+    private static final int HYDRATE_CHUNK = 500;
+    private static final String FULLTEXT_MATCH = "MATCH(e.first_name, e.last_name, e.employee_code, e.email) AGAINST (? IN BOOLEAN MODE)";
+    private static final String SEARCH_FULLTEXT = SELECT_BASE + " WHERE " + FULLTEXT_MATCH
+            + " AND e.is_deleted = FALSE ORDER BY " + FULLTEXT_MATCH + " DESC, e.employee_id LIMIT ?";
+
     @Override
     public Employee create(Employee e) {
-        try (Connection conn = ConnectionFactory.getInstance().getConnection()) {
+        try (Connection conn = DBConnection.getConnection()) {
             if (e.getEmployeeCode() == null || e.getEmployeeCode().isEmpty()) {
                 e.setEmployeeCode(getNextEmployeeCode());
             }
-            String sql = "INSERT INTO employees (employee_code, first_name, last_name, email, password, phone, address, date_of_birth, emergency_contact, department_id, designation_id, manager_id, role, salary, joining_date, security_question, security_answer) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)";
-            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
                 mapEmployeeToStatement(stmt, e);
                 stmt.executeUpdate();
                 try (ResultSet rs = stmt.getGeneratedKeys()) {
                     if (rs.next()) e.setEmployeeId(rs.getInt(1));
                 }
+                EmployeeSearchIndex.get().refresh(e.getEmployeeId());
+                invalidateOrgTree();
                 return e;
             }
         } catch (SQLException ex) {
@@ -45,11 +131,13 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     @Override
     public boolean updateManager(int employeeId, int managerId) throws SQLException {
         String sql = "UPDATE employees SET manager_id = ? WHERE employee_id = ?";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setInt(1, managerId);
             pstmt.setInt(2, employeeId);
-            return pstmt.executeUpdate() > 0;
+            boolean updated = pstmt.executeUpdate() > 0;
+            invalidateOrgTree();
+            return updated;
         }
     }
 
@@ -57,7 +145,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     public List<Employee> findByRole(Employee.Role role) throws SQLException {
         List<Employee> employees = new ArrayList<>();
         String sql = SELECT_BASE + " WHERE e.role = ? AND e.is_active = true AND e.is_deleted = FALSE";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement pstmt = conn.prepareStatement(sql)) {
             pstmt.setString(1, role.name());
             ResultSet rs = pstmt.executeQuery();
@@ -71,7 +159,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     @Override
     public boolean updateStatus(int id, boolean s) {
         String sql = "UPDATE employees SET is_active = ? WHERE employee_id = ?";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setBoolean(1, s);
             stmt.setInt(2, id);
@@ -91,7 +179,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     public List<Employee> getManagers() {
         List<Employee> managers = new ArrayList<>();
         String sql = "SELECT * FROM employees WHERE role IN ('MANAGER', 'ADMIN', '2', '1') AND is_deleted = FALSE";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql);
              ResultSet rs = stmt.executeQuery()) {
             while (rs.next()) {
@@ -106,7 +194,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     @Override
     public boolean updateSalaryAndRole(int empId, BigDecimal newSalary, Role newRole) {
         String sql = "UPDATE employees SET salary = ?, role = ? WHERE employee_id = ?";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setBigDecimal(1, newSalary);
             stmt.setString(2, newRole.name());
@@ -120,7 +208,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     @Override
     public Optional<Employee> findById(int id) {
         String sql = SELECT_BASE + " WHERE e.employee_id = ? AND e.is_deleted = FALSE";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, id);
             try (ResultSet rs = stmt.executeQuery()) {
@@ -134,7 +222,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
 
     @Override
     public List<Employee> findAll() {
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(SELECT_BASE + " WHERE e.is_deleted = FALSE")) {
             List<Employee> list = new ArrayList<>();
@@ -145,20 +233,35 @@ public class EmployeeDAOImpl implements EmployeeDAO {
         }
     }
 
+    @Override
+    public Stream<Employee> streamAll() throws SQLException {
+        return JdbcStream.query(SELECT_BASE + " WHERE e.is_deleted = FALSE", this::mapResultSetToEmployee);
+    }
+
+    @Override
+    public Page<Employee> findPage(PageRequest request) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_PAGE)) {
+            stmt.setInt(1, request.isFirst() ? 0 : request.getAfterId());
+            stmt.setInt(2, request.getSize() + 1);
+            List<Employee> list = new ArrayList<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapResultSetToEmployee(rs));
+            }
+            return Page.of(list, request, e -> request.after(e.getEmployeeId()));
+        } catch (SQLException ex) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Page fetch failed");
+        }
+    }
+
     @Override
     public boolean update(Employee e) {
-        String sql = "UPDATE employees SET first_name=?, last_name=?, email=?, department_id=?, designation_id=?, role=?, salary=? WHERE employee_id=?";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, e.getFirstName());
-            stmt.setString(2, e.getLastName());
-            stmt.setString(3, e.getEmail());
-            stmt.setInt(4, e.getDepartmentId());
-            stmt.setInt(5, e.getDesignationId());
-            stmt.setString(6, e.getRole().name());
-            stmt.setBigDecimal(7, e.getSalary());
-            stmt.setInt(8, e.getEmployeeId());
-            return stmt.executeUpdate() > 0;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UPDATE_SQL)) {
+            mapEmployeeUpdateToStatement(stmt, e);
+            boolean updated = stmt.executeUpdate() > 0;
+            EmployeeSearchIndex.get().refresh(e.getEmployeeId());
+            return updated;
         } catch (SQLException ex) {
             throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Update failed");
         }
@@ -167,20 +270,64 @@ public class EmployeeDAOImpl implements EmployeeDAO {
 
     @Override
     public boolean delete(int id) {
-        String sql = "UPDATE employees SET is_deleted = TRUE WHERE employee_id = ?";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SOFT_DELETE_SQL)) {
             stmt.setInt(1, id);
-            return stmt.executeUpdate() > 0;
+            boolean deleted = stmt.executeUpdate() > 0;
+            EmployeeSearchIndex.get().refresh(id);
+            invalidateOrgTree();
+            return deleted;
         } catch (SQLException e) {
             throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Delete failed");
         }
     }
 
+    @Override
+    public List<Employee> createAll(List<Employee> employees) {
+        int next = -1;
+        for (Employee e : employees) {
+            if (e.getEmployeeCode() == null || e.getEmployeeCode().isEmpty()) {
+                if (next < 0) next = Integer.parseInt(getNextEmployeeCode().substring(3));
+                e.setEmployeeCode(String.format("EMP%03d", next++));
+            }
+        }
+        try {
+            return JdbcBatch.insert(INSERT_SQL, employees, this::mapEmployeeToStatement, Employee::setEmployeeId);
+        } catch (SQLException ex) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Bulk create failed : " + ex.getMessage());
+        } finally {
+            EmployeeSearchIndex.get().invalidate();
+            invalidateOrgTree();
+        }
+    }
+
+    @Override
+    public int updateAll(List<Employee> employees) {
+        try {
+            return JdbcBatch.execute(UPDATE_SQL, employees, this::mapEmployeeUpdateToStatement);
+        } catch (SQLException ex) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Bulk update failed");
+        } finally {
+            EmployeeSearchIndex.get().invalidate();
+        }
+    }
+
+    @Override
+    public int deleteAll(List<Integer> ids) {
+        try {
+            return JdbcBatch.execute(SOFT_DELETE_SQL, ids, (stmt, id) -> stmt.setInt(1, id));
+        } catch (SQLException ex) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Bulk delete failed");
+        } finally {
+            EmployeeSearchIndex.get().invalidate();
+            invalidateOrgTree();
+        }
+    }
+
     @Override
     public Optional<Employee> findByEmail(String email) {
         String sql = SELECT_BASE + " WHERE e.email = ? AND e.is_deleted = FALSE";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, email);
             try (ResultSet rs = stmt.executeQuery()) {
@@ -195,7 +342,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     @Override
     public void updatePassword(int id, String pass) {
         String sql = "UPDATE employees SET password = ? WHERE employee_id = ?";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, pass);
             stmt.setInt(2, id);
@@ -208,7 +355,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     @Override
     public boolean updateProfile(int id, String phone, String addr, String ec) {
         String sql = "UPDATE employees SET phone=?, address=?, emergency_contact=? WHERE employee_id=?";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, phone);
             stmt.setString(2, addr);
@@ -223,21 +370,112 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     @Override
     public void assignManager(int empId, int managerId) {
         String sql = "UPDATE employees SET manager_id = ? WHERE employee_id = ?";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, managerId);
             stmt.setInt(2, empId);
             stmt.executeUpdate();
+            invalidateOrgTree();
         } catch (SQLException e) {
             throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Manager assignment failed");
         }
     }
 
+    @Override
+    public OrgTree getOrgTree() throws SQLException {
+        OrgTree tree = orgTree;
+        if (tree != null) return tree;
+        long version = orgVersion.get();
+        Map<Integer, Integer> managerOf = new HashMap<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_MANAGER_LINKS);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                int managerId = rs.getInt("manager_id");
+                managerOf.put(rs.getInt("employee_id"), rs.wasNull() ? null : managerId);
+            }
+        }
+        tree = OrgTree.build(managerOf);
+        synchronized (EmployeeDAOImpl.class) {
+            if (orgVersion.get() == version) orgTree = tree;
+        }
+        return tree;
+    }
+
+    //   Rows arrive in path order, so a node's sub-team is every row after it until the level drops back;
+    //   open holds the ancestors of the current row
+
+    @Override
+    public List<ReportingNode> findSubtree(int managerId) throws SQLException {
+        List<ReportingNode> list = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_SUBTREE)) {
+            stmt.setInt(1, managerId);
+            stmt.setInt(2, MAX_ORG_DEPTH);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<ReportingNode> open = new ArrayList<>();
+                while (rs.next()) {
+                    ReportingNode node = new ReportingNode(mapResultSetToEmployee(rs), rs.getInt("lvl"));
+                    while (!open.isEmpty() && open.get(open.size() - 1).getLevel() >= node.getLevel()) {
+                        open.remove(open.size() - 1);
+                    }
+                    for (ReportingNode ancestor : open) ancestor.setBelow(ancestor.getBelow() + 1);
+                    open.add(node);
+                    list.add(node);
+                }
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public List<Employee> findManagementChain(int employeeId) throws SQLException {
+        List<Employee> list = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_CHAIN)) {
+            stmt.setInt(1, employeeId);
+            stmt.setInt(2, MAX_ORG_DEPTH);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapResultSetToEmployee(rs));
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public List<TeamSummary> findTeamSummaries(int managerId) throws SQLException {
+        List<TeamSummary> list = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_TEAM_SUMMARIES)) {
+            stmt.setInt(1, managerId);
+            stmt.setInt(2, MAX_ORG_DEPTH);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    TeamSummary s = new TeamSummary();
+                    s.setLeadId(rs.getInt("lead_id"));
+                    s.setLeadName(rs.getString("lead_name"));
+                    s.setHeadcount(rs.getInt("headcount"));
+                    s.setTotalSalary(rs.getBigDecimal("total_salary"));
+                    s.setDepth(rs.getInt("depth"));
+                    list.add(s);
+                }
+            }
+        }
+        return list;
+    }
+
+    private static void invalidateOrgTree() {
+        synchronized (EmployeeDAOImpl.class) {
+            orgVersion.incrementAndGet();
+            orgTree = null;
+        }
+    }
+
     @Override
     public List<Employee> findByManagerId(int mid) {
         List<Employee> list = new ArrayList<>();
         String sql = SELECT_BASE + " WHERE e.manager_id = ? AND e.is_deleted = FALSE";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, mid);
             try (ResultSet rs = stmt.executeQuery()) {
@@ -252,7 +490,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     @Override
     public String getNextEmployeeCode() {
         String sql = "SELECT MAX(CAST(SUBSTRING(employee_code, 4) AS UNSIGNED)) FROM employees";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             if (rs.next()) return String.format("EMP%03d", rs.getInt(1) + 1);
@@ -265,7 +503,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     @Override
     public boolean emailExists(String email) {
         String sql = "SELECT COUNT(*) FROM employees WHERE email = ? AND is_deleted = FALSE";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, email);
             try (ResultSet rs = stmt.executeQuery()) {
@@ -279,7 +517,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     @Override
     public boolean codeExists(String code) {
         String sql = "SELECT COUNT(*) FROM employees WHERE employee_code = ? AND is_deleted = FALSE";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, code);
             try (ResultSet rs = stmt.executeQuery()) {
@@ -293,7 +531,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     @Override
     public Optional<Employee> findByCode(String code) {
         String sql = SELECT_BASE + " WHERE e.employee_code = ? AND e.is_deleted = FALSE";
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, code);
             try (ResultSet rs = stmt.executeQuery()) {
@@ -307,6 +545,84 @@ public class EmployeeDAOImpl implements EmployeeDAO {
 
     @Override
     public List<Employee> search(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return Collections.emptyList();
+        }
+        if (SEARCH_MODE.equals("like")) {
+            return searchLike(keyword);
+        }
+        if (SEARCH_MODE.equals("fulltext")) {
+            return searchFullText(keyword);
+        }
+        try {
+            List<Integer> ranked = EmployeeSearchIndex.get().search(keyword);
+            return findByIds(ranked.size() > SEARCH_LIMIT ? ranked.subList(0, SEARCH_LIMIT) : ranked);
+        } catch (SQLException ex) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Search failed");
+        }
+    }
+
+
+    //   Hydrates only the given rows, in the order of the ids (search ranking, org chart order)
+
+    @Override
+    public List<Employee> findByIds(List<Integer> ids) throws SQLException {
+        if (ids.isEmpty()) return Collections.emptyList();
+        Map<Integer, Employee> byId = new HashMap<>();
+        try (Connection conn = DBConnection.getConnection()) {
+            for (int from = 0; from < ids.size(); from += HYDRATE_CHUNK) {
+                List<Integer> chunk = ids.subList(from, Math.min(from + HYDRATE_CHUNK, ids.size()));
+                String sql = SELECT_BASE + " WHERE e.is_deleted = FALSE AND e.employee_id IN ("
+                        + String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) stmt.setInt(i + 1, chunk.get(i));
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            Employee e = mapResultSetToEmployee(rs);
+                            byId.put(e.getEmployeeId(), e);
+                        }
+                    }
+                }
+            }
+        }
+        List<Employee> list = new ArrayList<>(byId.size());
+        for (int id : ids) {
+            Employee e = byId.get(id);
+            if (e != null) list.add(e);
+        }
+        return list;
+    }
+
+
+
+    //   Every word must match as a prefix (+word*); words shorter than innodb_ft_min_token_size fall back to LIKE
+
+    private List<Employee> searchFullText(String keyword) {
+        StringBuilder query = new StringBuilder();
+        for (String word : (keyword == null ? "" : keyword).split("[^\\p{L}\\p{N}_]+")) {
+            if (word.length() < 3) continue;
+            query.append('+').append(word).append("* ");
+        }
+        if (query.length() == 0) {
+            return searchLike(keyword);
+        }
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SEARCH_FULLTEXT)) {
+            String q = query.toString().trim();
+            stmt.setString(1, q);
+            stmt.setString(2, q);
+            stmt.setInt(3, SEARCH_LIMIT);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<Employee> list = new ArrayList<>();
+                while (rs.next()) list.add(mapResultSetToEmployee(rs));
+                return list;
+            }
+        } catch (SQLException ex) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Search failed");
+        }
+    }
+
+    private List<Employee> searchLike(String keyword) {
         String sql = SELECT_BASE + """
              WHERE (e.first_name LIKE ? 
                 OR e.last_name LIKE ? 
@@ -314,7 +630,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
                 OR d.department_name LIKE ?) 
              AND e.is_deleted = FALSE
             """;
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             String k = "%" + keyword + "%";
             stmt.setString(1, k); stmt.setString(2, k);
@@ -331,7 +647,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
 
     @Override
     public List<Employee> findBirthdaysThisMonth() {
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(SELECT_BASE + " WHERE MONTH(date_of_birth) = MONTH(CURRENT_DATE) AND is_deleted = FALSE")) {
             List<Employee> list = new ArrayList<>();
@@ -346,7 +662,7 @@ public class EmployeeDAOImpl implements EmployeeDAO {
     public List<Employee> findWorkAnniversariesThisMonth() {
         String sql = SELECT_BASE + " WHERE MONTH(joining_date) = MONTH(CURRENT_DATE) AND is_deleted = FALSE";
         List<Employee> list = new ArrayList<>();
-        try (Connection conn = ConnectionFactory.getInstance().getConnection();
+        try (Connection conn = DBConnection.getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             while (rs.next()) list.add(mapResultSetToEmployee(rs));
@@ -376,6 +692,17 @@ public class EmployeeDAOImpl implements EmployeeDAO {
         stmt.setString(17, e.getSecurityAnswer());
     }
 
+    private void mapEmployeeUpdateToStatement(PreparedStatement stmt, Employee e) throws SQLException {
+        stmt.setString(1, e.getFirstName());
+        stmt.setString(2, e.getLastName());
+        stmt.setString(3, e.getEmail());
+        stmt.setInt(4, e.getDepartmentId());
+        stmt.setInt(5, e.getDesignationId());
+        stmt.setString(6, e.getRole().name());
+        stmt.setBigDecimal(7, e.getSalary());
+        stmt.setInt(8, e.getEmployeeId());
+    }
+
     private Employee mapResultSetToEmployee(ResultSet rs) throws SQLException {
         Employee e = new Employee();
         e.setEmployeeId(rs.getInt("employee_id"));
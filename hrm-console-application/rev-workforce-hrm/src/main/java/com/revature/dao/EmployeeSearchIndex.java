@@ -0,0 +1,179 @@
+package com.revature.dao;
+
+import com.revature.util.DBConnection;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+
+//   In-memory n-gram index over name, code, email and department for EmployeeDAOImpl.search.
+//   Every 1-, 2- and 3-character substring maps to the employees containing it; longer keywords intersect their trigrams.
+//   Built from the database on first search, patched per row on single writes and rebuilt after bulk writes.
+
+final class EmployeeSearchIndex {
+
+    private static final String SELECT_DOCS = """
+        SELECT e.employee_id, e.first_name, e.last_name, e.employee_code, e.email, d.department_name
+        FROM employees e
+        LEFT JOIN departments d ON e.department_id = d.department_id
+        WHERE e.is_deleted = FALSE
+        """;
+    private static final String SELECT_DOC = SELECT_DOCS + " AND e.employee_id = ?";
+
+    private static final EmployeeSearchIndex INSTANCE = new EmployeeSearchIndex();
+
+    private final Map<Integer, Doc> docs = new HashMap<>();
+    private final Map<String, Set<Integer>> grams = new HashMap<>();
+    private boolean built;
+
+    private EmployeeSearchIndex() {}
+
+    static EmployeeSearchIndex get() {
+        return INSTANCE;
+    }
+
+
+//   Ranked ids  ||  exact field match, then field prefix, then word prefix, then substring; ties by employee id.
+//   A blank keyword matches nothing.
+
+    synchronized List<Integer> search(String keyword) throws SQLException {
+        String kw = normalize(keyword);
+        if (kw.isEmpty()) {
+            return new ArrayList<>();
+        }
+        ensureBuilt();
+
+        Set<Integer> candidates = candidates(kw);
+        List<int[]> scored = new ArrayList<>();
+        for (int id : candidates) {
+            int score = docs.get(id).score(kw);
+            if (score > 0) scored.add(new int[]{id, score});
+        }
+        scored.sort(Comparator.<int[]>comparingInt(s -> -s[1]).thenComparingInt(s -> s[0]));
+
+        List<Integer> ids = new ArrayList<>(scored.size());
+        for (int[] s : scored) ids.add(s[0]);
+        return ids;
+    }
+
+    synchronized void refresh(int employeeId) {
+        if (!built) return;
+        remove(employeeId);
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_DOC)) {
+            stmt.setInt(1, employeeId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) add(mapDoc(rs));
+            }
+        } catch (SQLException e) {
+            System.err.println("Search index refresh failed, rebuilding on next search : " + e.getMessage());
+            invalidate();
+        }
+    }
+
+    synchronized void invalidate() {
+        docs.clear();
+        grams.clear();
+        built = false;
+    }
+
+    synchronized int size() {
+        return docs.size();
+    }
+
+    private void ensureBuilt() throws SQLException {
+        if (built) return;
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_DOCS);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) add(mapDoc(rs));
+        } catch (SQLException e) {
+            invalidate();
+            throw e;
+        }
+        built = true;
+    }
+
+    private Set<Integer> candidates(String kw) {
+        if (kw.length() <= 3) {
+            return grams.getOrDefault(kw, Set.of());
+        }
+        Set<Integer> smallest = null;
+        List<Set<Integer>> postings = new ArrayList<>();
+        for (int i = 0; i + 3 <= kw.length(); i++) {
+            Set<Integer> p = grams.get(kw.substring(i, i + 3));
+            if (p == null) return Set.of();
+            postings.add(p);
+            if (smallest == null || p.size() < smallest.size()) smallest = p;
+        }
+        Set<Integer> result = new HashSet<>(smallest);
+        for (Set<Integer> p : postings) {
+            if (p != smallest) result.retainAll(p);
+            if (result.isEmpty()) break;
+        }
+        return result;
+    }
+
+    private void add(Doc doc) {
+        docs.put(doc.id, doc);
+        for (String gram : doc.grams()) {
+            grams.computeIfAbsent(gram, g -> new HashSet<>()).add(doc.id);
+        }
+    }
+
+    private void remove(int employeeId) {
+        Doc doc = docs.remove(employeeId);
+        if (doc == null) return;
+        for (String gram : doc.grams()) {
+            Set<Integer> p = grams.get(gram);
+            if (p != null && p.remove(employeeId) && p.isEmpty()) grams.remove(gram);
+        }
+    }
+
+    private static Doc mapDoc(ResultSet rs) throws SQLException {
+        return new Doc(rs.getInt("employee_id"), new String[]{
+                normalize(rs.getString("first_name")),
+                normalize(rs.getString("last_name")),
+                normalize(rs.getString("employee_code")),
+                normalize(rs.getString("email")),
+                normalize(rs.getString("department_name"))
+        });
+    }
+
+    private static String normalize(String s) {
+        return s == null ? "" : s.trim().toLowerCase(Locale.ROOT);
+    }
+
+
+//   One employee's searchable fields, already lower-cased
+
+    private record Doc(int id, String[] fields) {
+
+        Set<String> grams() {
+            Set<String> out = new HashSet<>();
+            for (String f : fields) {
+                for (int n = 1; n <= 3; n++) {
+                    for (int i = 0; i + n <= f.length(); i++) out.add(f.substring(i, i + n));
+                }
+            }
+            return out;
+        }
+
+        int score(String kw) {
+            int best = 0;
+            for (String f : fields) {
+                if (f.equals(kw)) return 100;
+                if (f.startsWith(kw)) best = Math.max(best, 50);
+                else if (f.contains(" " + kw) || f.contains("." + kw) || f.contains("@" + kw)) best = Math.max(best, 30);
+                else if (f.contains(kw)) best = Math.max(best, 10);
+            }
+            return best;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.revature.dao;
 
+import com.revature.model.Page;
+import com.revature.model.PageRequest;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface GenericDAO<T> {
     T create(T t) throws SQLException;
@@ -10,5 +14,33 @@ public interface GenericDAO<T> {
     List<T> findAll() throws SQLException;
     boolean update(T t) throws SQLException;
     boolean delete(int id) throws SQLException;
+
+    Page<T> findPage(PageRequest request) throws SQLException;
+
+
+    //   Lazy findAll  ||  rows are mapped as they are consumed, close the stream (try-with-resources) to release the connection
+
+    Stream<T> streamAll() throws SQLException;
+
+
+    //   Bulk variants  ||  implementations override these with JdbcBatch, the defaults fall back to one call per row
+
+    default List<T> createAll(List<T> items) throws SQLException {
+        List<T> created = new ArrayList<>(items.size());
+        for (T t : items) created.add(create(t));
+        return created;
+    }
+
+    default int updateAll(List<T> items) throws SQLException {
+        int updated = 0;
+        for (T t : items) if (update(t)) updated++;
+        return updated;
+    }
+
+    default int deleteAll(List<Integer> ids) throws SQLException {
+        int deleted = 0;
+        for (int id : ids) if (delete(id)) deleted++;
+        return deleted;
+    }
 }
 
@@ -7,6 +7,7 @@ import java.util.Optional;
 
 public interface HolidayDAO extends GenericDAO<Holiday> {
     List<Holiday> findByYear(int year) throws SQLException;
+    List<Holiday> findByYearAndCalendar(int year, String calendarCode) throws SQLException;
     List<Holiday> findUpcoming() throws SQLException;
 
 
@@ -1,27 +1,43 @@
 package com.revature.dao;
 
 import com.revature.model.Holiday;
+import com.revature.model.Page;
+import com.revature.model.PageRequest;
 import com.revature.util.DBConnection;
+import com.revature.util.JdbcBatch;
+import com.revature.util.JdbcStream;
+import com.revature.util.ReferenceCache;
+import com.revature.util.WorkingDayCalendar;
 import com.revature.exception.AppException;
 import com.revature.exception.AppException.ErrorCode;
 import java.sql.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public class HolidayDAOImpl implements HolidayDAO {
 
+    private static final ReferenceCache CACHE = ReferenceCache.region("holidays");
+
+    static {
+        CACHE.onInvalidate(WorkingDayCalendar::invalidateShared);
+    }
+
 
     // SQL Queries
 
 
-    private static final String INSERT_HOLIDAY = "INSERT INTO holidays (holiday_name, holiday_date, description, year, is_optional) VALUES (?, ?, ?, ?, ?)";
-    private static final String UPDATE_HOLIDAY = "UPDATE holidays SET holiday_name = ?, holiday_date = ?, description = ?, is_optional = ? WHERE holiday_id = ?";
+    private static final String INSERT_HOLIDAY = "INSERT INTO holidays (holiday_name, holiday_date, description, year, is_optional, calendar_code) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_HOLIDAY = "UPDATE holidays SET holiday_name = ?, holiday_date = ?, description = ?, is_optional = ?, calendar_code = ? WHERE holiday_id = ?";
     private static final String DELETE_HOLIDAY = "DELETE FROM holidays WHERE holiday_id = ?";
     private static final String SELECT_BY_ID = "SELECT * FROM holidays WHERE holiday_id = ?";
     private static final String SELECT_BY_YEAR = "SELECT * FROM holidays WHERE year = ? ORDER BY holiday_date";
+    private static final String SELECT_BY_YEAR_AND_CALENDAR = "SELECT * FROM holidays WHERE year = ? AND (calendar_code IS NULL OR calendar_code = ?) ORDER BY holiday_date";
     private static final String SELECT_UPCOMING = "SELECT * FROM holidays WHERE holiday_date >= CURRENT_DATE ORDER BY holiday_date LIMIT 10";
     private static final String SELECT_ALL = "SELECT * FROM holidays ORDER BY holiday_date DESC";
+    private static final String SELECT_PAGE = "SELECT * FROM holidays WHERE holiday_id > ? ORDER BY holiday_id LIMIT ?";
 
 
     // --- GenericDAO Methods (Required for Interface Sync) ---
@@ -30,12 +46,9 @@ public class HolidayDAOImpl implements HolidayDAO {
     public Holiday create(Holiday holiday) throws SQLException {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(INSERT_HOLIDAY, Statement.RETURN_GENERATED_KEYS)) {
-            stmt.setString(1, holiday.getHolidayName());
-            stmt.setObject(2, holiday.getHolidayDate());
-            stmt.setString(3, holiday.getDescription());
-            stmt.setInt(4, holiday.getYear());
-            stmt.setBoolean(5, holiday.isOptional());
+            bindInsert(stmt, holiday);
             stmt.executeUpdate();
+            CACHE.invalidate();
             try (ResultSet rs = stmt.getGeneratedKeys()) {
                 if (rs.next()) holiday.setHolidayId(rs.getInt(1));
             }
@@ -47,12 +60,10 @@ public class HolidayDAOImpl implements HolidayDAO {
     public boolean update(Holiday holiday) throws SQLException {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(UPDATE_HOLIDAY)) {
-            stmt.setString(1, holiday.getHolidayName());
-            stmt.setObject(2, holiday.getHolidayDate());
-            stmt.setString(3, holiday.getDescription());
-            stmt.setBoolean(4, holiday.isOptional());
-            stmt.setInt(5, holiday.getHolidayId());
-            return stmt.executeUpdate() > 0;
+            bindUpdate(stmt, holiday);
+            boolean updated = stmt.executeUpdate() > 0;
+            CACHE.invalidate();
+            return updated;
         }
     }
 
@@ -61,31 +72,83 @@ public class HolidayDAOImpl implements HolidayDAO {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(DELETE_HOLIDAY)) {
             stmt.setInt(1, id);
-            return stmt.executeUpdate() > 0;
+            boolean deleted = stmt.executeUpdate() > 0;
+            CACHE.invalidate();
+            return deleted;
         }
     }
 
     @Override
     public Optional<Holiday> findById(int id) throws SQLException {
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_BY_ID)) {
-            stmt.setInt(1, id);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) return Optional.of(mapResultSetToHoliday(rs));
+        return CACHE.get("id:" + id, () -> {
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_BY_ID)) {
+                stmt.setInt(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) return Optional.of(mapResultSetToHoliday(rs));
+                }
             }
-        }
-        return Optional.empty();
+            return Optional.<Holiday>empty();
+        });
     }
 
     @Override
     public List<Holiday> findAll() throws SQLException {
+        return CACHE.get("all", () -> {
+            List<Holiday> list = new ArrayList<>();
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_ALL);
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapResultSetToHoliday(rs));
+            }
+            return list;
+        });
+    }
+
+    @Override
+    public Stream<Holiday> streamAll() throws SQLException {
+        return JdbcStream.query(SELECT_ALL, this::mapResultSetToHoliday);
+    }
+
+    @Override
+    public Page<Holiday> findPage(PageRequest request) throws SQLException {
         List<Holiday> list = new ArrayList<>();
         try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_ALL);
-             ResultSet rs = stmt.executeQuery()) {
-            while (rs.next()) list.add(mapResultSetToHoliday(rs));
+             PreparedStatement stmt = conn.prepareStatement(SELECT_PAGE)) {
+            stmt.setInt(1, request.isFirst() ? 0 : request.getAfterId());
+            stmt.setInt(2, request.getSize() + 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapResultSetToHoliday(rs));
+            }
+        }
+        return Page.of(list, request, h -> request.after(h.getHolidayId()));
+    }
+
+    @Override
+    public List<Holiday> createAll(List<Holiday> holidays) throws SQLException {
+        try {
+            return JdbcBatch.insert(INSERT_HOLIDAY, holidays, this::bindInsert, Holiday::setHolidayId);
+        } finally {
+            CACHE.invalidate();
+        }
+    }
+
+    @Override
+    public int updateAll(List<Holiday> holidays) throws SQLException {
+        try {
+            return JdbcBatch.execute(UPDATE_HOLIDAY, holidays, this::bindUpdate);
+        } finally {
+            CACHE.invalidate();
+        }
+    }
+
+    @Override
+    public int deleteAll(List<Integer> ids) throws SQLException {
+        try {
+            return JdbcBatch.execute(DELETE_HOLIDAY, ids, (stmt, id) -> stmt.setInt(1, id));
+        } finally {
+            CACHE.invalidate();
         }
-        return list;
     }
 
 
@@ -120,35 +183,77 @@ public class HolidayDAOImpl implements HolidayDAO {
 
     @Override
     public List<Holiday> findByYear(int year) throws SQLException {
-        List<Holiday> list = new ArrayList<>();
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_BY_YEAR)) {
-            stmt.setInt(1, year);
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) list.add(mapResultSetToHoliday(rs));
+        return CACHE.get("year:" + year, () -> {
+            List<Holiday> list = new ArrayList<>();
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_BY_YEAR)) {
+                stmt.setInt(1, year);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) list.add(mapResultSetToHoliday(rs));
+                }
+            } catch (SQLException e) {
+                throw new AppException(ErrorCode.DATABASE_ERROR, "Fetch by year failed");
             }
-        } catch (SQLException e) {
-            throw new AppException(ErrorCode.DATABASE_ERROR, "Fetch by year failed");
-        }
-        return list;
+            return list;
+        });
+    }
+
+
+
+    //   Company-wide holidays (calendar_code NULL) plus the ones for this regional calendar
+
+    @Override
+    public List<Holiday> findByYearAndCalendar(int year, String calendarCode) throws SQLException {
+        return CACHE.get("year:" + year + ":" + calendarCode, () -> {
+            List<Holiday> list = new ArrayList<>();
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_BY_YEAR_AND_CALENDAR)) {
+                stmt.setInt(1, year);
+                stmt.setString(2, calendarCode);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) list.add(mapResultSetToHoliday(rs));
+                }
+            }
+            return list;
+        });
     }
 
     @Override
     public List<Holiday> findUpcoming() throws SQLException {
-        List<Holiday> list = new ArrayList<>();
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_UPCOMING);
-             ResultSet rs = stmt.executeQuery()) {
-            while (rs.next()) list.add(mapResultSetToHoliday(rs));
-        } catch (SQLException e) {
-            throw new AppException(ErrorCode.DATABASE_ERROR, "Fetch upcoming failed");
-        }
-        return list;
+        return CACHE.get("upcoming:" + LocalDate.now(), () -> {
+            List<Holiday> list = new ArrayList<>();
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_UPCOMING);
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapResultSetToHoliday(rs));
+            } catch (SQLException e) {
+                throw new AppException(ErrorCode.DATABASE_ERROR, "Fetch upcoming failed");
+            }
+            return list;
+        });
     }
 
 
     //   --- Helper Mapping ---
 
+    private void bindInsert(PreparedStatement stmt, Holiday holiday) throws SQLException {
+        stmt.setString(1, holiday.getHolidayName());
+        stmt.setObject(2, holiday.getHolidayDate());
+        stmt.setString(3, holiday.getDescription());
+        stmt.setInt(4, holiday.getYear());
+        stmt.setBoolean(5, holiday.isOptional());
+        stmt.setString(6, holiday.getCalendarCode());
+    }
+
+    private void bindUpdate(PreparedStatement stmt, Holiday holiday) throws SQLException {
+        stmt.setString(1, holiday.getHolidayName());
+        stmt.setObject(2, holiday.getHolidayDate());
+        stmt.setString(3, holiday.getDescription());
+        stmt.setBoolean(4, holiday.isOptional());
+        stmt.setString(5, holiday.getCalendarCode());
+        stmt.setInt(6, holiday.getHolidayId());
+    }
+
     private Holiday mapResultSetToHoliday(ResultSet rs) throws SQLException {
         Holiday h = new Holiday();
         h.setHolidayId(rs.getInt("holiday_id"));
@@ -158,6 +263,7 @@ public class HolidayDAOImpl implements HolidayDAO {
         h.setDescription(rs.getString("description"));
         h.setYear(rs.getInt("year"));
         h.setOptional(rs.getBoolean("is_optional"));
+        h.setCalendarCode(rs.getString("calendar_code"));
         return h;
     }
 }
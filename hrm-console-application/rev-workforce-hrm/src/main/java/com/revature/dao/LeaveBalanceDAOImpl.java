@@ -1,11 +1,16 @@
 package com.revature.dao;
 
 import com.revature.model.LeaveBalance;
+import com.revature.model.Page;
+import com.revature.model.PageRequest;
 import com.revature.util.DBConnection;
+import com.revature.util.JdbcBatch;
+import com.revature.util.JdbcStream;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public class LeaveBalanceDAOImpl implements LeaveBalanceDAO {
 
@@ -15,6 +20,10 @@ public class LeaveBalanceDAOImpl implements LeaveBalanceDAO {
         FROM leave_types WHERE is_active = TRUE
         """;
 
+    private static final String INSERT_SQL = "INSERT INTO leave_balances (employee_id, leave_type_id, year, total_leaves, used_leaves) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE leave_balances SET total_leaves = ?, used_leaves = ? WHERE balance_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM leave_balances WHERE balance_id = ?";
+
     private static final String SELECT_BASE = """
         SELECT lb.*, lt.type_name as leave_type_name, 
         (lb.total_leaves - lb.used_leaves) as remaining_days,
@@ -24,16 +33,13 @@ public class LeaveBalanceDAOImpl implements LeaveBalanceDAO {
         JOIN employees e ON lb.employee_id = e.employee_id
         """;
 
+    private static final String SELECT_PAGE = SELECT_BASE + " WHERE lb.balance_id > ? ORDER BY lb.balance_id LIMIT ?";
+
     @Override
     public LeaveBalance create(LeaveBalance balance) throws SQLException {
         try (Connection conn = DBConnection.getConnection()) {
-            String sql = "INSERT INTO leave_balances (employee_id, leave_type_id, year, total_leaves, used_leaves) VALUES (?, ?, ?, ?, ?)";
-            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-                stmt.setInt(1, balance.getEmployeeId());
-                stmt.setInt(2, balance.getLeaveTypeId());
-                stmt.setInt(3, balance.getYear());
-                stmt.setInt(4, balance.getTotalLeaves());
-                stmt.setInt(5, balance.getUsedLeaves());
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                bindInsert(stmt, balance);
                 stmt.executeUpdate();
                 try (ResultSet rs = stmt.getGeneratedKeys()) {
                     if (rs.next()) balance.setBalanceId(rs.getInt(1));
@@ -67,28 +73,58 @@ public class LeaveBalanceDAOImpl implements LeaveBalanceDAO {
         return list;
     }
 
+    @Override
+    public Stream<LeaveBalance> streamAll() throws SQLException {
+        return JdbcStream.query(SELECT_BASE, this::mapResultSetToLeaveBalance);
+    }
+
+    @Override
+    public Page<LeaveBalance> findPage(PageRequest request) throws SQLException {
+        List<LeaveBalance> list = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_PAGE)) {
+            stmt.setInt(1, request.isFirst() ? 0 : request.getAfterId());
+            stmt.setInt(2, request.getSize() + 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapResultSetToLeaveBalance(rs));
+            }
+        }
+        return Page.of(list, request, lb -> request.after(lb.getBalanceId()));
+    }
+
     @Override
     public boolean update(LeaveBalance balance) throws SQLException {
-        String sql = "UPDATE leave_balances SET total_leaves = ?, used_leaves = ? WHERE balance_id = ?";
         try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, balance.getTotalLeaves());
-            stmt.setInt(2, balance.getUsedLeaves());
-            stmt.setInt(3, balance.getBalanceId());
+             PreparedStatement stmt = conn.prepareStatement(UPDATE_SQL)) {
+            bindUpdate(stmt, balance);
             return stmt.executeUpdate() > 0;
         }
     }
 
     @Override
     public boolean delete(int id) throws SQLException {
-        String sql = "DELETE FROM leave_balances WHERE balance_id = ?";
         try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(DELETE_SQL)) {
             stmt.setInt(1, id);
             return stmt.executeUpdate() > 0;
         }
     }
 
+    @Override
+    public List<LeaveBalance> createAll(List<LeaveBalance> balances) throws SQLException {
+        return JdbcBatch.insert(INSERT_SQL, balances, this::bindInsert, LeaveBalance::setBalanceId);
+    }
+
+    @Override
+    public int updateAll(List<LeaveBalance> balances) throws SQLException {
+        return JdbcBatch.execute(UPDATE_SQL, balances, this::bindUpdate);
+    }
+
+    @Override
+    public int deleteAll(List<Integer> ids) throws SQLException {
+        return JdbcBatch.execute(DELETE_SQL, ids, (stmt, id) -> stmt.setInt(1, id));
+    }
+
     @Override
     public void initializeBalances(int employeeId, int year) throws SQLException {
         try (Connection conn = DBConnection.getConnection();
@@ -166,6 +202,20 @@ public class LeaveBalanceDAOImpl implements LeaveBalanceDAO {
         return list;
     }
 
+    private void bindInsert(PreparedStatement stmt, LeaveBalance balance) throws SQLException {
+        stmt.setInt(1, balance.getEmployeeId());
+        stmt.setInt(2, balance.getLeaveTypeId());
+        stmt.setInt(3, balance.getYear());
+        stmt.setInt(4, balance.getTotalLeaves());
+        stmt.setInt(5, balance.getUsedLeaves());
+    }
+
+    private void bindUpdate(PreparedStatement stmt, LeaveBalance balance) throws SQLException {
+        stmt.setInt(1, balance.getTotalLeaves());
+        stmt.setInt(2, balance.getUsedLeaves());
+        stmt.setInt(3, balance.getBalanceId());
+    }
+
     private LeaveBalance mapResultSetToLeaveBalance(ResultSet rs) throws SQLException {
         LeaveBalance lb = new LeaveBalance();
         lb.setBalanceId(rs.getInt("balance_id"));
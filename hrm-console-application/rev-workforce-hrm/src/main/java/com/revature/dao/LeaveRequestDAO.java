@@ -2,6 +2,8 @@ package com.revature.dao;
 
 import com.revature.model.LeaveRequest;
 import com.revature.model.LeaveRequest.LeaveStatus;
+import com.revature.model.Page;
+import com.revature.model.PageRequest;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.LocalDate;
@@ -16,10 +18,13 @@ public interface LeaveRequestDAO extends GenericDAO<LeaveRequest> {
     List<LeaveRequest> findByManager(int managerId) throws SQLException;
     List<LeaveRequest> findByEmployee(int employeeId) throws SQLException;
     List<LeaveRequest> findPendingByManager(int managerId) throws SQLException;
+    List<LeaveRequest> findPendingAll() throws SQLException;
+    Page<LeaveRequest> findPageByManager(int managerId, PageRequest request) throws SQLException;
 
     boolean cancelRequest(int requestId) throws SQLException;
     boolean hasOverlappingLeaves(int employeeId, int excludeRequestId, LocalDate start, LocalDate end) throws SQLException;
 
     boolean approveLeaveWithBalance(int requestId, int approverId, String comments) throws SQLException;
+    boolean approveLeaveWithBalance(Connection conn, int requestId, int approverId, String comments) throws SQLException;
     boolean cancelLeaveWithBalance(int requestId) throws SQLException;
 }
\ No newline at end of file
@@ -2,16 +2,23 @@ package com.revature.dao;
 
 import com.revature.model.LeaveRequest;
 import com.revature.model.LeaveRequest.LeaveStatus;
+import com.revature.model.Page;
+import com.revature.model.PageRequest;
 import com.revature.util.DBConnection;
+import com.revature.util.JdbcBatch;
+import com.revature.util.JdbcStream;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public class LeaveRequestDAOImpl implements LeaveRequestDAO {
 
     private static final String INSERT_SQL = "INSERT INTO leave_requests (employee_id, leave_type_id, start_date, end_date, total_days, reason, status) VALUES (?, ?, ?, ?, ?, ?, 'PENDING')";
+    private static final String UPDATE_SQL = "UPDATE leave_requests SET start_date = ?, end_date = ?, total_days = ?, reason = ? WHERE request_id = ?";
+    private static final String CANCEL_PENDING_SQL = "UPDATE leave_requests SET status = 'CANCELLED', actioned_at = CURRENT_TIMESTAMP WHERE request_id = ? AND status = 'PENDING'";
 
     private static final String SELECT_BASE = """
         SELECT lr.*, lt.type_name as leave_type_name,
@@ -24,16 +31,21 @@ public class LeaveRequestDAOImpl implements LeaveRequestDAO {
         LEFT JOIN employees a ON lr.approver_id = a.employee_id
         """;
 
+
+    //   Newest first, seeking on (applied_at, request_id) so ties on applied_at never skip or repeat rows
+
+    private static final String PAGE_ORDER = " ORDER BY lr.applied_at DESC, lr.request_id DESC LIMIT ?";
+    private static final String SEEK = " (lr.applied_at < ? OR (lr.applied_at = ? AND lr.request_id < ?))";
+    private static final String SELECT_PAGE_FIRST = SELECT_BASE + PAGE_ORDER;
+    private static final String SELECT_PAGE_NEXT = SELECT_BASE + " WHERE" + SEEK + PAGE_ORDER;
+    private static final String SELECT_MANAGER_PAGE_FIRST = SELECT_BASE + " WHERE e.manager_id = ?" + PAGE_ORDER;
+    private static final String SELECT_MANAGER_PAGE_NEXT = SELECT_BASE + " WHERE e.manager_id = ? AND" + SEEK + PAGE_ORDER;
+
     @Override
     public LeaveRequest create(LeaveRequest request) throws SQLException {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
-            stmt.setInt(1, request.getEmployeeId());
-            stmt.setInt(2, request.getLeaveTypeId());
-            stmt.setObject(3, request.getStartDate());
-            stmt.setObject(4, request.getEndDate());
-            stmt.setInt(5, request.getTotalDays());
-            stmt.setString(6, request.getReason());
+            bindInsert(stmt, request);
             stmt.executeUpdate();
             try (ResultSet rs = stmt.getGeneratedKeys()) {
                 if (rs.next()) request.setRequestId(rs.getInt(1));
@@ -68,15 +80,45 @@ public class LeaveRequestDAOImpl implements LeaveRequestDAO {
     }
 
     @Override
-    public boolean update(LeaveRequest request) throws SQLException {
-        String sql = "UPDATE leave_requests SET start_date = ?, end_date = ?, total_days = ?, reason = ? WHERE request_id = ?";
+    public Stream<LeaveRequest> streamAll() throws SQLException {
+        return JdbcStream.query(SELECT_BASE + " ORDER BY lr.applied_at DESC", this::mapResultSetToLeaveRequest);
+    }
+
+    @Override
+    public Page<LeaveRequest> findPage(PageRequest request) throws SQLException {
+        return seekPage(request.isFirst() ? SELECT_PAGE_FIRST : SELECT_PAGE_NEXT, null, request);
+    }
+
+    @Override
+    public Page<LeaveRequest> findPageByManager(int managerId, PageRequest request) throws SQLException {
+        return seekPage(request.isFirst() ? SELECT_MANAGER_PAGE_FIRST : SELECT_MANAGER_PAGE_NEXT, managerId, request);
+    }
+
+    private Page<LeaveRequest> seekPage(String sql, Integer managerId, PageRequest request) throws SQLException {
+        List<LeaveRequest> list = new ArrayList<>();
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setObject(1, request.getStartDate());
-            stmt.setObject(2, request.getEndDate());
-            stmt.setInt(3, request.getTotalDays());
-            stmt.setString(4, request.getReason());
-            stmt.setInt(5, request.getRequestId());
+            int i = 1;
+            if (managerId != null) stmt.setInt(i++, managerId);
+            if (!request.isFirst()) {
+                Timestamp after = Timestamp.valueOf(request.getAfterTime());
+                stmt.setTimestamp(i++, after);
+                stmt.setTimestamp(i++, after);
+                stmt.setInt(i++, request.getAfterId());
+            }
+            stmt.setInt(i, request.getSize() + 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapResultSetToLeaveRequest(rs));
+            }
+        }
+        return Page.of(list, request, r -> request.after(r.getAppliedAt(), r.getRequestId()));
+    }
+
+    @Override
+    public boolean update(LeaveRequest request) throws SQLException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UPDATE_SQL)) {
+            bindUpdate(stmt, request);
             return stmt.executeUpdate() > 0;
         }
     }
@@ -86,6 +128,21 @@ public class LeaveRequestDAOImpl implements LeaveRequestDAO {
         return cancelRequest(id);
     }
 
+    @Override
+    public List<LeaveRequest> createAll(List<LeaveRequest> requests) throws SQLException {
+        return JdbcBatch.insert(INSERT_SQL, requests, this::bindInsert, LeaveRequest::setRequestId);
+    }
+
+    @Override
+    public int updateAll(List<LeaveRequest> requests) throws SQLException {
+        return JdbcBatch.execute(UPDATE_SQL, requests, this::bindUpdate);
+    }
+
+    @Override
+    public int deleteAll(List<Integer> ids) throws SQLException {
+        return JdbcBatch.execute(CANCEL_PENDING_SQL, ids, (stmt, id) -> stmt.setInt(1, id));
+    }
+
     @Override
     public boolean updateStatus(int requestId, LeaveStatus status, int approverId, String comments) throws SQLException {
         String sql = "UPDATE leave_requests SET status = ?, approver_id = ?, approver_comments = ?, actioned_at = CURRENT_TIMESTAMP WHERE request_id = ?";
@@ -118,27 +175,7 @@ public class LeaveRequestDAOImpl implements LeaveRequestDAO {
             conn = DBConnection.getConnection();
             conn.setAutoCommit(false);
 
-            Optional<LeaveRequest> opt = findById(requestId);
-            if (opt.isEmpty()) return false;
-            LeaveRequest req = opt.get();
-
-            updateStatus(conn, requestId, LeaveStatus.APPROVED, approverId, comments);
-
-            String deductSql = "UPDATE leave_balances SET used_leaves = used_leaves + ? " +
-                    "WHERE employee_id = ? AND leave_type_id = ? AND year = ? " +
-                    "AND (total_leaves - used_leaves) >= ?";
-
-            try (PreparedStatement stmt = conn.prepareStatement(deductSql)) {
-                stmt.setInt(1, req.getTotalDays());
-                stmt.setInt(2, req.getEmployeeId());
-                stmt.setInt(3, req.getLeaveTypeId());
-                stmt.setInt(4, req.getStartDate().getYear());
-                stmt.setInt(5, req.getTotalDays());
-
-                if (stmt.executeUpdate() == 0) {
-                    throw new SQLException("Insufficient balance for the year " + req.getStartDate().getYear());
-                }
-            }
+            if (!approveLeaveWithBalance(conn, requestId, approverId, comments)) return false;
 
             conn.commit();
             return true;
@@ -150,6 +187,35 @@ public class LeaveRequestDAOImpl implements LeaveRequestDAO {
         }
     }
 
+
+//   Status change and balance deduction on the caller's transaction; the caller commits or rolls back
+
+    @Override
+    public boolean approveLeaveWithBalance(Connection conn, int requestId, int approverId, String comments) throws SQLException {
+        Optional<LeaveRequest> opt = findById(requestId);
+        if (opt.isEmpty()) return false;
+        LeaveRequest req = opt.get();
+
+        updateStatus(conn, requestId, LeaveStatus.APPROVED, approverId, comments);
+
+        String deductSql = "UPDATE leave_balances SET used_leaves = used_leaves + ? " +
+                "WHERE employee_id = ? AND leave_type_id = ? AND year = ? " +
+                "AND (total_leaves - used_leaves) >= ?";
+
+        try (PreparedStatement stmt = conn.prepareStatement(deductSql)) {
+            stmt.setInt(1, req.getTotalDays());
+            stmt.setInt(2, req.getEmployeeId());
+            stmt.setInt(3, req.getLeaveTypeId());
+            stmt.setInt(4, req.getStartDate().getYear());
+            stmt.setInt(5, req.getTotalDays());
+
+            if (stmt.executeUpdate() == 0) {
+                throw new SQLException("Insufficient balance for the year " + req.getStartDate().getYear());
+            }
+        }
+        return true;
+    }
+
     @Override
     public boolean cancelLeaveWithBalance(int requestId) throws SQLException {
         Connection conn = null;
@@ -189,9 +255,8 @@ public class LeaveRequestDAOImpl implements LeaveRequestDAO {
 
     @Override
     public boolean cancelRequest(int requestId) throws SQLException {
-        String sql = "UPDATE leave_requests SET status = 'CANCELLED', actioned_at = CURRENT_TIMESTAMP WHERE request_id = ? AND status = 'PENDING'";
         try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(CANCEL_PENDING_SQL)) {
             stmt.setInt(1, requestId);
             return stmt.executeUpdate() > 0;
         }
@@ -239,6 +304,18 @@ public class LeaveRequestDAOImpl implements LeaveRequestDAO {
         return list;
     }
 
+    @Override
+    public List<LeaveRequest> findPendingAll() throws SQLException {
+        String sql = SELECT_BASE + " WHERE lr.status = 'PENDING' ORDER BY lr.applied_at ASC";
+        List<LeaveRequest> list = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) list.add(mapResultSetToLeaveRequest(rs));
+        }
+        return list;
+    }
+
     @Override
     public boolean hasOverlappingLeaves(int employeeId, int excludeRequestId, LocalDate start, LocalDate end) throws SQLException {
         String sql = "SELECT COUNT(*) FROM leave_requests WHERE employee_id = ? AND status IN ('PENDING', 'APPROVED') AND request_id != ? AND NOT (end_date < ? OR start_date > ?)";
@@ -255,6 +332,23 @@ public class LeaveRequestDAOImpl implements LeaveRequestDAO {
         return false;
     }
 
+    private void bindInsert(PreparedStatement stmt, LeaveRequest request) throws SQLException {
+        stmt.setInt(1, request.getEmployeeId());
+        stmt.setInt(2, request.getLeaveTypeId());
+        stmt.setObject(3, request.getStartDate());
+        stmt.setObject(4, request.getEndDate());
+        stmt.setInt(5, request.getTotalDays());
+        stmt.setString(6, request.getReason());
+    }
+
+    private void bindUpdate(PreparedStatement stmt, LeaveRequest request) throws SQLException {
+        stmt.setObject(1, request.getStartDate());
+        stmt.setObject(2, request.getEndDate());
+        stmt.setInt(3, request.getTotalDays());
+        stmt.setString(4, request.getReason());
+        stmt.setInt(5, request.getRequestId());
+    }
+
     private LeaveRequest mapResultSetToLeaveRequest(ResultSet rs) throws SQLException {
         LeaveRequest request = new LeaveRequest();
         request.setRequestId(rs.getInt("request_id"));
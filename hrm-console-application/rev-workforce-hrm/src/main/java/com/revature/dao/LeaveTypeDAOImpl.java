@@ -1,7 +1,12 @@
 package com.revature.dao;
 
 import com.revature.model.LeaveType;
+import com.revature.model.Page;
+import com.revature.model.PageRequest;
 import com.revature.util.DBConnection;
+import com.revature.util.JdbcBatch;
+import com.revature.util.JdbcStream;
+import com.revature.util.ReferenceCache;
 import com.revature.exception.AppException;
 import com.revature.exception.AppException.ErrorCode;
 
@@ -9,24 +14,27 @@ import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public class LeaveTypeDAOImpl implements LeaveTypeDAO {
+    private static final ReferenceCache CACHE = ReferenceCache.region("leaveTypes");
+
     private static final String INSERT_SQL = "INSERT INTO leave_types (type_name, description, max_days_per_year, is_carry_forward) VALUES (?, ?, ?, ?)";
     private static final String UPDATE_SQL = "UPDATE leave_types SET type_name = ?, description = ?, max_days_per_year = ?, is_carry_forward = ? WHERE leave_type_id = ?";
+    private static final String DEACTIVATE_SQL = "UPDATE leave_types SET is_active = FALSE WHERE leave_type_id = ?";
     private static final String SELECT_BY_ID = "SELECT * FROM leave_types WHERE leave_type_id = ?";
     private static final String SELECT_ALL = "SELECT * FROM leave_types ORDER BY type_name";
+    private static final String SELECT_PAGE = "SELECT * FROM leave_types WHERE leave_type_id > ? ORDER BY leave_type_id LIMIT ?";
 
     @Override
     public LeaveType create(LeaveType type) throws SQLException {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
 
-            stmt.setString(1, type.getTypeName());
-            stmt.setString(2, type.getDescription());
-            stmt.setInt(3, type.getMaxDaysPerYear());
-            stmt.setBoolean(4, type.isCarryForward());
+            bindInsert(stmt, type);
 
             stmt.executeUpdate();
+            CACHE.invalidate();
             try (ResultSet rs = stmt.getGeneratedKeys()) {
                 if (rs.next()) type.setLeaveTypeId(rs.getInt(1));
             }
@@ -36,47 +44,96 @@ public class LeaveTypeDAOImpl implements LeaveTypeDAO {
 
     @Override
     public Optional<LeaveType> findById(int id) throws SQLException {
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_BY_ID)) {
-            stmt.setInt(1, id);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) return Optional.of(mapResultSetToLeaveType(rs));
+        return CACHE.get("id:" + id, () -> {
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_BY_ID)) {
+                stmt.setInt(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) return Optional.of(mapResultSetToLeaveType(rs));
+                }
             }
-        }
-        return Optional.empty();
+            return Optional.<LeaveType>empty();
+        });
     }
 
     @Override
     public List<LeaveType> findAll() throws SQLException {
+        return CACHE.get("all", () -> {
+            List<LeaveType> list = new ArrayList<>();
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_ALL);
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapResultSetToLeaveType(rs));
+            }
+            return list;
+        });
+    }
+
+    @Override
+    public Stream<LeaveType> streamAll() throws SQLException {
+        return JdbcStream.query(SELECT_ALL, this::mapResultSetToLeaveType);
+    }
+
+    @Override
+    public Page<LeaveType> findPage(PageRequest request) throws SQLException {
         List<LeaveType> list = new ArrayList<>();
         try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SELECT_ALL);
-             ResultSet rs = stmt.executeQuery()) {
-            while (rs.next()) list.add(mapResultSetToLeaveType(rs));
+             PreparedStatement stmt = conn.prepareStatement(SELECT_PAGE)) {
+            stmt.setInt(1, request.isFirst() ? 0 : request.getAfterId());
+            stmt.setInt(2, request.getSize() + 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapResultSetToLeaveType(rs));
+            }
         }
-        return list;
+        return Page.of(list, request, t -> request.after(t.getLeaveTypeId()));
     }
 
     @Override
     public boolean update(LeaveType type) throws SQLException {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(UPDATE_SQL)) {
-            stmt.setString(1, type.getTypeName());
-            stmt.setString(2, type.getDescription());
-            stmt.setInt(3, type.getMaxDaysPerYear());
-            stmt.setBoolean(4, type.isCarryForward());
-            stmt.setInt(5, type.getLeaveTypeId());
-            return stmt.executeUpdate() > 0;
+            bindUpdate(stmt, type);
+            boolean updated = stmt.executeUpdate() > 0;
+            CACHE.invalidate();
+            return updated;
         }
     }
 
     @Override
     public boolean delete(int id) throws SQLException {
-        String sql = "UPDATE leave_types SET is_active = FALSE WHERE leave_type_id = ?";
         try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(DEACTIVATE_SQL)) {
             stmt.setInt(1, id);
-            return stmt.executeUpdate() > 0;
+            boolean deactivated = stmt.executeUpdate() > 0;
+            CACHE.invalidate();
+            return deactivated;
+        }
+    }
+
+    @Override
+    public List<LeaveType> createAll(List<LeaveType> types) throws SQLException {
+        try {
+            return JdbcBatch.insert(INSERT_SQL, types, this::bindInsert, LeaveType::setLeaveTypeId);
+        } finally {
+            CACHE.invalidate();
+        }
+    }
+
+    @Override
+    public int updateAll(List<LeaveType> types) throws SQLException {
+        try {
+            return JdbcBatch.execute(UPDATE_SQL, types, this::bindUpdate);
+        } finally {
+            CACHE.invalidate();
+        }
+    }
+
+    @Override
+    public int deleteAll(List<Integer> ids) throws SQLException {
+        try {
+            return JdbcBatch.execute(DEACTIVATE_SQL, ids, (stmt, id) -> stmt.setInt(1, id));
+        } finally {
+            CACHE.invalidate();
         }
     }
 
@@ -84,15 +141,17 @@ public class LeaveTypeDAOImpl implements LeaveTypeDAO {
 
     @Override
     public Optional<LeaveType> findByName(String name) throws SQLException {
-        String sql = "SELECT * FROM leave_types WHERE type_name = ? AND is_active = TRUE";
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, name);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) return Optional.of(mapResultSetToLeaveType(rs));
+        return CACHE.get("name:" + name, () -> {
+            String sql = "SELECT * FROM leave_types WHERE type_name = ? AND is_active = TRUE";
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, name);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) return Optional.of(mapResultSetToLeaveType(rs));
+                }
             }
-        }
-        return Optional.empty();
+            return Optional.<LeaveType>empty();
+        });
     }
 
     @Override
@@ -102,20 +161,36 @@ public class LeaveTypeDAOImpl implements LeaveTypeDAO {
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setBoolean(1, active);
             stmt.setInt(2, id);
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            CACHE.invalidate();
+            return updated;
         }
     }
 
     @Override
     public List<LeaveType> findAllActive() throws SQLException {
-        String sql = "SELECT * FROM leave_types WHERE is_active = TRUE";
-        List<LeaveType> list = new ArrayList<>();
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql);
-             ResultSet rs = stmt.executeQuery()) {
-            while (rs.next()) list.add(mapResultSetToLeaveType(rs));
-        }
-        return list;
+        return CACHE.get("active", () -> {
+            String sql = "SELECT * FROM leave_types WHERE is_active = TRUE";
+            List<LeaveType> list = new ArrayList<>();
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql);
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapResultSetToLeaveType(rs));
+            }
+            return list;
+        });
+    }
+
+    private void bindInsert(PreparedStatement stmt, LeaveType type) throws SQLException {
+        stmt.setString(1, type.getTypeName());
+        stmt.setString(2, type.getDescription());
+        stmt.setInt(3, type.getMaxDaysPerYear());
+        stmt.setBoolean(4, type.isCarryForward());
+    }
+
+    private void bindUpdate(PreparedStatement stmt, LeaveType type) throws SQLException {
+        bindInsert(stmt, type);
+        stmt.setInt(5, type.getLeaveTypeId());
     }
 
     private LeaveType mapResultSetToLeaveType(ResultSet rs) throws SQLException {
@@ -1,5 +1,6 @@
 package com.revature.dao;
 
+import com.revature.model.Employee.Role;
 import com.revature.model.Notification;
 import com.revature.model.Notification.NotificationType;
 import java.sql.Connection;
@@ -9,6 +10,12 @@ import java.util.List;
 public interface NotificationDAO {
     int createNotification(Notification notification);
     int createNotification(Connection conn, Notification notification) throws SQLException;
+    int createAll(Connection conn, List<Notification> notifications) throws SQLException;
+    int createForNewReviews(Connection conn, int year, String period, int afterReviewId, String title, String message) throws SQLException;
+    int createForEmployees(List<Integer> employeeIds, Notification template) throws SQLException;
+    int createForRole(Role role, Notification template) throws SQLException;
+    int createForDepartment(int departmentId, Notification template) throws SQLException;
+    void createDeadLetter(Notification notification, int attempts, String lastError) throws SQLException;
     boolean markAsRead(int notificationId);
     int markAllAsRead(int employeeId);
     boolean deleteNotification(int notificationId);
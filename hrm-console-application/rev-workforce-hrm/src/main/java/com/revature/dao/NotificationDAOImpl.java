@@ -1,8 +1,10 @@
 package com.revature.dao;
 
+import com.revature.model.Employee.Role;
 import com.revature.model.Notification;
 import com.revature.model.Notification.NotificationType;
 import com.revature.util.DBConnection;
+import com.revature.util.JdbcBatch;
 import com.revature.exception.AppException;
 import com.revature.exception.AppException.ErrorCode;
 import java.sql.*;
@@ -12,7 +14,23 @@ import java.util.List;
 public class NotificationDAOImpl implements NotificationDAO {
 
     private static final String INSERT_NOTIFICATION = "INSERT INTO notifications (employee_id, title, message, notification_type, related_id, is_read, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
-    private static final String MARK_AS_READ = "UPDATE notifications SET is_read = TRUE WHERE notification_id = ?";
+    private static final String INSERT_FOR_NEW_REVIEWS = """
+        INSERT INTO notifications (employee_id, title, message, notification_type, related_id, is_read, created_at)
+        SELECT pr.employee_id, ?, ?, 'PERFORMANCE', pr.review_id, FALSE, CURRENT_TIMESTAMP
+        FROM performance_reviews pr
+        WHERE pr.review_id > ? AND pr.review_year = ? AND pr.review_period = ?
+        """;
+    private static final String INSERT_FOR_GROUP = """
+        INSERT INTO notifications (employee_id, title, message, notification_type, related_id, is_read, created_at)
+        SELECT e.employee_id, ?, ?, ?, ?, FALSE, ?
+        FROM employees e
+        WHERE e.is_active = TRUE AND e.is_deleted = FALSE
+        """;
+    private static final String INSERT_FOR_ROLE = INSERT_FOR_GROUP + " AND e.role = ?";
+    private static final String INSERT_FOR_DEPARTMENT = INSERT_FOR_GROUP + " AND e.department_id = ?";
+    private static final String INSERT_DEAD_LETTER = "INSERT INTO notification_dead_letters (employee_id, title, message, notification_type, related_id, created_at, attempts, last_error) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String MARK_AS_READ = "UPDATE notifications SET is_read = TRUE WHERE notification_id = ? AND is_read = FALSE";
+    private static final String SELECT_OWNER = "SELECT employee_id FROM notifications WHERE notification_id = ?";
     private static final String MARK_ALL_AS_READ = "UPDATE notifications SET is_read = TRUE WHERE employee_id = ? AND is_read = FALSE";
     private static final String DELETE_NOTIFICATION = "DELETE FROM notifications WHERE notification_id = ?";
     private static final String DELETE_OLD_NOTIFICATIONS = "DELETE FROM notifications WHERE created_at < DATE_SUB(NOW(), INTERVAL 90 DAY)";
@@ -22,17 +40,49 @@ public class NotificationDAOImpl implements NotificationDAO {
     private static final String COUNT_UNREAD = "SELECT COUNT(*) FROM notifications WHERE employee_id = ? AND is_read = FALSE";
     private static final String SELECT_BY_TYPE = "SELECT * FROM notifications WHERE employee_id = ? AND notification_type = ? ORDER BY created_at DESC LIMIT 20";
 
+    private static final UnreadCounters UNREAD = new UnreadCounters();
+
     @Override
     public int createNotification(Notification notification) {
         try (Connection conn = DBConnection.getConnection()) {
-            return createNotification(conn, notification);
+            int id = insert(conn, notification);
+            if (conn.getAutoCommit()) {
+                if (!notification.isRead()) UNREAD.adjust(notification.getEmployeeId(), 1);
+            } else {
+                UNREAD.invalidate(notification.getEmployeeId());
+            }
+            return id;
         } catch (SQLException e) {
             throw new AppException(ErrorCode.DATABASE_ERROR, "Error creating notification: " + e.getMessage());
         }
     }
 
+//   Caller's transaction may still roll back, so the counter is re-read rather than bumped
+
     @Override
     public int createNotification(Connection conn, Notification notification) throws SQLException {
+        int id = insert(conn, notification);
+        UNREAD.invalidate(notification.getEmployeeId());
+        return id;
+    }
+
+    @Override
+    public int createAll(Connection conn, List<Notification> notifications) throws SQLException {
+        if (notifications.isEmpty()) return 0;
+        int created = JdbcBatch.execute(conn, INSERT_NOTIFICATION, notifications, (stmt, n) -> {
+            stmt.setInt(1, n.getEmployeeId());
+            stmt.setString(2, n.getTitle());
+            stmt.setString(3, n.getMessage());
+            stmt.setString(4, n.getNotificationType().name());
+            stmt.setObject(5, n.getRelatedId());
+            stmt.setBoolean(6, n.isRead());
+            stmt.setTimestamp(7, Timestamp.valueOf(n.getCreatedAt()));
+        });
+        notifications.stream().map(Notification::getEmployeeId).distinct().forEach(UNREAD::invalidate);
+        return created;
+    }
+
+    private int insert(Connection conn, Notification notification) throws SQLException {
         try (PreparedStatement stmt = conn.prepareStatement(INSERT_NOTIFICATION, Statement.RETURN_GENERATED_KEYS)) {
             stmt.setInt(1, notification.getEmployeeId());
             stmt.setString(2, notification.getTitle());
@@ -50,12 +100,97 @@ public class NotificationDAOImpl implements NotificationDAO {
         }
     }
 
+//   Delivery gave up (NotificationDispatcher)  ||  kept with its original created_at so it can be re-sent as it was
+
     @Override
-    public boolean markAsRead(int notificationId) {
+    public void createDeadLetter(Notification notification, int attempts, String lastError) throws SQLException {
         try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(MARK_AS_READ)) {
-            stmt.setInt(1, notificationId);
-            return stmt.executeUpdate() > 0;
+             PreparedStatement stmt = conn.prepareStatement(INSERT_DEAD_LETTER)) {
+            stmt.setInt(1, notification.getEmployeeId());
+            stmt.setString(2, notification.getTitle());
+            stmt.setString(3, notification.getMessage());
+            stmt.setString(4, notification.getNotificationType().name());
+            stmt.setObject(5, notification.getRelatedId());
+            stmt.setTimestamp(6, Timestamp.valueOf(notification.getCreatedAt()));
+            stmt.setInt(7, attempts);
+            stmt.setString(8, lastError == null || lastError.length() <= 500 ? lastError : lastError.substring(0, 500));
+            stmt.executeUpdate();
+        }
+    }
+
+    @Override
+    public int createForNewReviews(Connection conn, int year, String period, int afterReviewId,
+                                   String title, String message) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_FOR_NEW_REVIEWS)) {
+            stmt.setString(1, title);
+            stmt.setString(2, message);
+            stmt.setInt(3, afterReviewId);
+            stmt.setInt(4, year);
+            stmt.setString(5, period);
+            int created = stmt.executeUpdate();
+            UNREAD.invalidateAll();
+            return created;
+        }
+    }
+
+
+//   Group sends  ||  one INSERT ... SELECT over active employees, or one multi-row batch for an explicit list.
+//   The template supplies title, message, type, related id and timestamp; the result is a row count, not ids.
+
+    @Override
+    public int createForEmployees(List<Integer> employeeIds, Notification template) throws SQLException {
+        List<Integer> ids = employeeIds.stream().distinct().toList();
+        int created = JdbcBatch.execute(INSERT_NOTIFICATION, ids, (stmt, id) -> {
+            stmt.setInt(1, id);
+            stmt.setString(2, template.getTitle());
+            stmt.setString(3, template.getMessage());
+            stmt.setString(4, template.getNotificationType().name());
+            stmt.setObject(5, template.getRelatedId());
+            stmt.setBoolean(6, false);
+            stmt.setTimestamp(7, Timestamp.valueOf(template.getCreatedAt()));
+        });
+        ids.forEach(id -> UNREAD.adjust(id, 1));
+        return created;
+    }
+
+    @Override
+    public int createForRole(Role role, Notification template) throws SQLException {
+        return insertSelect(INSERT_FOR_ROLE, template, role.name());
+    }
+
+    @Override
+    public int createForDepartment(int departmentId, Notification template) throws SQLException {
+        return insertSelect(INSERT_FOR_DEPARTMENT, template, departmentId);
+    }
+
+    private int insertSelect(String sql, Notification template, Object audience) throws SQLException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, template.getTitle());
+            stmt.setString(2, template.getMessage());
+            stmt.setString(3, template.getNotificationType().name());
+            stmt.setObject(4, template.getRelatedId());
+            stmt.setTimestamp(5, Timestamp.valueOf(template.getCreatedAt()));
+            stmt.setObject(6, audience);
+            int created = stmt.executeUpdate();
+            if (created > 0) UNREAD.invalidateAll();
+            return created;
+        }
+    }
+
+
+//   The is_read = FALSE guard makes the decrement happen once even if two sessions mark the same row
+
+    @Override
+    public boolean markAsRead(int notificationId) {
+        try (Connection conn = DBConnection.getConnection()) {
+            Integer owner = findOwner(conn, notificationId);
+            if (owner == null) return false;
+            try (PreparedStatement stmt = conn.prepareStatement(MARK_AS_READ)) {
+                stmt.setInt(1, notificationId);
+                if (stmt.executeUpdate() > 0) UNREAD.adjust(owner, -1);
+            }
+            return true;
         } catch (SQLException e) { throw new AppException(ErrorCode.DATABASE_ERROR, "Mark as read failed"); }
     }
 
@@ -64,16 +199,23 @@ public class NotificationDAOImpl implements NotificationDAO {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(MARK_ALL_AS_READ)) {
             stmt.setInt(1, employeeId);
-            return stmt.executeUpdate();
+            int marked = stmt.executeUpdate();
+            UNREAD.adjust(employeeId, -marked);
+            return marked;
         } catch (SQLException e) { throw new AppException(ErrorCode.DATABASE_ERROR, "Mark all failed"); }
     }
 
     @Override
     public boolean deleteNotification(int notificationId) {
-        try (Connection conn = DBConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(DELETE_NOTIFICATION)) {
-            stmt.setInt(1, notificationId);
-            return stmt.executeUpdate() > 0;
+        try (Connection conn = DBConnection.getConnection()) {
+            Integer owner = findOwner(conn, notificationId);
+            if (owner == null) return false;
+            try (PreparedStatement stmt = conn.prepareStatement(DELETE_NOTIFICATION)) {
+                stmt.setInt(1, notificationId);
+                boolean deleted = stmt.executeUpdate() > 0;
+                if (deleted) UNREAD.invalidate(owner);
+                return deleted;
+            }
         } catch (SQLException e) { throw new AppException(ErrorCode.DATABASE_ERROR, "Delete failed"); }
     }
 
@@ -81,10 +223,21 @@ public class NotificationDAOImpl implements NotificationDAO {
     public int deleteOldNotifications() {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(DELETE_OLD_NOTIFICATIONS)) {
-            return stmt.executeUpdate();
+            int deleted = stmt.executeUpdate();
+            if (deleted > 0) UNREAD.invalidateAll();
+            return deleted;
         } catch (SQLException e) { throw new AppException(ErrorCode.DATABASE_ERROR, "Cleanup failed"); }
     }
 
+    private Integer findOwner(Connection conn, int notificationId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_OWNER)) {
+            stmt.setInt(1, notificationId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : null;
+            }
+        }
+    }
+
     @Override
     public Notification findById(int id) throws SQLException {
         try (Connection conn = DBConnection.getConnection();
@@ -127,6 +280,10 @@ public class NotificationDAOImpl implements NotificationDAO {
 
     @Override
     public int countUnread(int empId) {
+        return UNREAD.get(empId, () -> countUnreadFromDb(empId));
+    }
+
+    private int countUnreadFromDb(int empId) {
         try (Connection conn = DBConnection.getConnection();
              PreparedStatement stmt = conn.prepareStatement(COUNT_UNREAD)) {
             stmt.setInt(1, empId);
@@ -0,0 +1,14 @@
+package com.revature.dao;
+
+import com.revature.model.OutboxEvent;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+public interface OutboxDAO {
+    int append(Connection conn, List<OutboxEvent> events) throws SQLException;
+    List<OutboxEvent> lockBatch(Connection conn, int limit, int maxAttempts) throws SQLException;
+    int delete(Connection conn, List<OutboxEvent> events) throws SQLException;
+    void markFailed(Connection conn, OutboxEvent event, String error) throws SQLException;
+    int countStuck(int maxAttempts) throws SQLException;
+}
@@ -0,0 +1,152 @@
+package com.revature.dao;
+
+import com.revature.model.AuditLog;
+import com.revature.model.Notification;
+import com.revature.model.OutboxEvent;
+import com.revature.model.OutboxEvent.Kind;
+import com.revature.util.DBConnection;
+import com.revature.util.JdbcBatch;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class OutboxDAOImpl implements OutboxDAO {
+
+    private static final String INSERT_EVENT = "INSERT INTO outbox_events (kind, employee_id, title, message, notification_type, action_type, entity_type, entity_id, old_value, new_value, ip_address, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_EVENT = "DELETE FROM outbox_events WHERE event_id = ?";
+    private static final String MARK_FAILED = "UPDATE outbox_events SET attempts = attempts + 1, last_error = ? WHERE event_id = ?";
+    private static final String COUNT_STUCK = "SELECT COUNT(*) FROM outbox_events WHERE attempts >= ?";
+
+
+//   Oldest first; SKIP LOCKED lets a second running instance take the next batch instead of waiting on this one
+
+    private static final String LOCK_BATCH = "SELECT * FROM outbox_events WHERE attempts < ? ORDER BY event_id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final JdbcBatch.Binder<OutboxEvent> BINDER = (stmt, event) -> {
+        stmt.setString(1, event.getKind().name());
+        if (event.getKind() == Kind.NOTIFICATION) {
+            Notification n = event.getNotification();
+            stmt.setInt(2, n.getEmployeeId());
+            stmt.setString(3, n.getTitle());
+            stmt.setString(4, n.getMessage());
+            stmt.setString(5, n.getNotificationType().name());
+            stmt.setNull(6, Types.VARCHAR);
+            stmt.setNull(7, Types.VARCHAR);
+            stmt.setObject(8, n.getRelatedId());
+            stmt.setNull(9, Types.VARCHAR);
+            stmt.setNull(10, Types.VARCHAR);
+            stmt.setNull(11, Types.VARCHAR);
+            stmt.setTimestamp(12, Timestamp.valueOf(n.getCreatedAt() != null ? n.getCreatedAt() : LocalDateTime.now()));
+        } else {
+            AuditLog log = event.getAuditLog();
+            stmt.setObject(2, log.getEmployeeId());
+            stmt.setNull(3, Types.VARCHAR);
+            stmt.setNull(4, Types.VARCHAR);
+            stmt.setNull(5, Types.VARCHAR);
+            stmt.setString(6, log.getActionType().name());
+            stmt.setString(7, log.getEntityType().name());
+            stmt.setObject(8, log.getEntityId());
+            stmt.setString(9, log.getOldValue());
+            stmt.setString(10, log.getNewValue());
+            stmt.setString(11, log.getIpAddress());
+            stmt.setTimestamp(12, Timestamp.valueOf(log.getActionTimestamp() != null ? log.getActionTimestamp() : LocalDateTime.now()));
+        }
+    };
+
+
+//   Caller's transaction  ||  the events commit or roll back together with the business change
+
+    @Override
+    public int append(Connection conn, List<OutboxEvent> events) throws SQLException {
+        if (events.isEmpty()) return 0;
+        return JdbcBatch.execute(conn, INSERT_EVENT, events, BINDER);
+    }
+
+    @Override
+    public List<OutboxEvent> lockBatch(Connection conn, int limit, int maxAttempts) throws SQLException {
+        List<OutboxEvent> events = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement(LOCK_BATCH)) {
+            stmt.setInt(1, maxAttempts);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) events.add(mapRow(rs));
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public int delete(Connection conn, List<OutboxEvent> events) throws SQLException {
+        if (events.isEmpty()) return 0;
+        return JdbcBatch.execute(conn, DELETE_EVENT, events, (stmt, event) -> stmt.setLong(1, event.getEventId()));
+    }
+
+    @Override
+    public void markFailed(Connection conn, OutboxEvent event, String error) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(MARK_FAILED)) {
+            stmt.setString(1, error == null || error.length() <= 500 ? error : error.substring(0, 500));
+            stmt.setLong(2, event.getEventId());
+            stmt.executeUpdate();
+        }
+        event.setAttempts(event.getAttempts() + 1);
+    }
+
+    @Override
+    public int countStuck(int maxAttempts) throws SQLException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(COUNT_STUCK)) {
+            stmt.setInt(1, maxAttempts);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+
+//   A row whose kind or enum values no longer decode comes back without a payload (see OutboxEvent.hasPayload)
+//   and with the reason in lastError, so the relay can mark it failed instead of stalling on it
+
+    private OutboxEvent mapRow(ResultSet rs) throws SQLException {
+        OutboxEvent event = new OutboxEvent();
+        event.setEventId(rs.getLong("event_id"));
+        event.setAttempts(rs.getInt("attempts"));
+        event.setLastError(rs.getString("last_error"));
+        try {
+            decode(rs, event);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            event.setNotification(null);
+            event.setAuditLog(null);
+            event.setLastError("Undecodable outbox row : " + e.getMessage());
+        }
+        return event;
+    }
+
+    private void decode(ResultSet rs, OutboxEvent event) throws SQLException {
+        event.setKind(Kind.valueOf(rs.getString("kind")));
+        LocalDateTime createdAt = rs.getTimestamp("created_at").toLocalDateTime();
+        Integer entityId = rs.getObject("entity_id", Integer.class);
+
+        if (event.getKind() == Kind.NOTIFICATION) {
+            Notification n = new Notification();
+            n.setEmployeeId(rs.getInt("employee_id"));
+            n.setTitle(rs.getString("title"));
+            n.setMessage(rs.getString("message"));
+            n.setNotificationType(Notification.NotificationType.valueOf(rs.getString("notification_type")));
+            n.setRelatedId(entityId);
+            n.setRead(false);
+            n.setCreatedAt(createdAt);
+            event.setNotification(n);
+        } else {
+            AuditLog log = new AuditLog();
+            log.setEmployeeId(rs.getObject("employee_id", Integer.class));
+            log.setActionType(AuditLog.ActionType.valueOf(rs.getString("action_type")));
+            log.setEntityType(AuditLog.EntityType.valueOf(rs.getString("entity_type")));
+            log.setEntityId(entityId);
+            log.setOldValue(rs.getString("old_value"));
+            log.setNewValue(rs.getString("new_value"));
+            log.setIpAddress(rs.getString("ip_address"));
+            log.setActionTimestamp(createdAt);
+            event.setAuditLog(log);
+        }
+    }
+}
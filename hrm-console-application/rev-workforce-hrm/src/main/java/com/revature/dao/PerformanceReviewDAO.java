@@ -1,6 +1,8 @@
 package com.revature.dao;
 
 import com.revature.model.PerformanceReview;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +19,11 @@ public interface PerformanceReviewDAO {
     List<PerformanceReview> findSubmittedByManager(int managerId);
     List<PerformanceReview> findTeamReviewsByManager(int managerId, int year);
     List<PerformanceReview> findAllByYear(int year);
+    List<PerformanceReview> findByYearAndStatus(int year, PerformanceReview.ReviewStatus status);
+    List<PerformanceReview> findByManagerAndStatus(int managerId, int year, PerformanceReview.ReviewStatus status);
     boolean reviewExists(int employeeId, int year);
+
+    int findMaxReviewId(Connection conn) throws SQLException;
+    int createCycleReviews(Connection conn, int year, String period) throws SQLException;
 }
 
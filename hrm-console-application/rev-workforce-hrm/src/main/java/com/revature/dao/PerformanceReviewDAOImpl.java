@@ -17,6 +17,15 @@ public class PerformanceReviewDAOImpl implements PerformanceReviewDAO {
     private static final String SUBMIT_REVIEW = "UPDATE performance_reviews SET status = 'SUBMITTED', submitted_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP WHERE review_id = ? AND status = 'PENDING'";
     private static final String ADD_MANAGER_FEEDBACK = "UPDATE performance_reviews SET manager_rating = ?, manager_feedback = ?, manager_id = ?, status = 'REVIEWED', reviewed_at = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP WHERE review_id = ? AND status = 'SUBMITTED'";
     private static final String COMPLETE_REVIEW = "UPDATE performance_reviews SET status = 'COMPLETED', updated_at = CURRENT_TIMESTAMP WHERE review_id = ? AND status = 'REVIEWED'";
+    private static final String SELECT_MAX_REVIEW_ID = "SELECT COALESCE(MAX(review_id), 0) FROM performance_reviews";
+    private static final String INSERT_CYCLE_REVIEWS = """
+        INSERT INTO performance_reviews (employee_id, review_year, review_period, status)
+        SELECT e.employee_id, ?, ?, 'PENDING'
+        FROM employees e
+        WHERE e.is_active = TRUE AND e.is_deleted = FALSE
+        AND NOT EXISTS (SELECT 1 FROM performance_reviews pr
+                        WHERE pr.employee_id = e.employee_id AND pr.review_year = ? AND pr.review_period = ?)
+        """;
     private static final String SELECT_BASE = "SELECT pr.*, CONCAT(e.first_name, ' ', e.last_name) as employee_name, e.employee_code, CONCAT(m.first_name, ' ', m.last_name) as manager_name FROM performance_reviews pr JOIN employees e ON pr.employee_id = e.employee_id LEFT JOIN employees m ON pr.manager_id = m.employee_id ";
 
     @Override
@@ -165,6 +174,39 @@ public class PerformanceReviewDAOImpl implements PerformanceReviewDAO {
         return list;
     }
 
+    @Override
+    public List<PerformanceReview> findByYearAndStatus(int year, ReviewStatus status) {
+        List<PerformanceReview> list = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_BASE + "WHERE pr.review_year = ? AND pr.status = ? ORDER BY pr.submitted_at")) {
+            stmt.setInt(1, year);
+            stmt.setString(2, status.name());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapRow(rs));
+            }
+        } catch (SQLException e) { throw new AppException(ErrorCode.DATABASE_ERROR, "Fetch failed : " + e.getMessage()); }
+        return list;
+    }
+
+
+    //   Manager queue  ||  employees by idx_employees_manager, then reviews by review_cycle_idx
+
+    @Override
+    public List<PerformanceReview> findByManagerAndStatus(int managerId, int year, ReviewStatus status) {
+        List<PerformanceReview> list = new ArrayList<>();
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SELECT_BASE
+                     + "WHERE e.manager_id = ? AND e.is_deleted = FALSE AND pr.review_year = ? AND pr.status = ? ORDER BY pr.submitted_at")) {
+            stmt.setInt(1, managerId);
+            stmt.setInt(2, year);
+            stmt.setString(3, status.name());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapRow(rs));
+            }
+        } catch (SQLException e) { throw new AppException(ErrorCode.DATABASE_ERROR, "Fetch failed : " + e.getMessage()); }
+        return list;
+    }
+
     @Override
     public boolean reviewExists(int empId, int year) {
         try (Connection conn = DBConnection.getConnection();
@@ -178,6 +220,28 @@ public class PerformanceReviewDAOImpl implements PerformanceReviewDAO {
         return false;
     }
 
+    @Override
+    public int findMaxReviewId(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SELECT_MAX_REVIEW_ID);
+             ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+
+    //   One INSERT ... SELECT for the whole cycle  ||  the NOT EXISTS probe and the duplicate guard both use review_cycle_idx
+
+    @Override
+    public int createCycleReviews(Connection conn, int year, String period) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_CYCLE_REVIEWS)) {
+            stmt.setInt(1, year);
+            stmt.setString(2, period);
+            stmt.setInt(3, year);
+            stmt.setString(4, period);
+            return stmt.executeUpdate();
+        }
+    }
+
     private PerformanceReview mapRow(ResultSet rs) throws SQLException {
         PerformanceReview review = new PerformanceReview();
         review.setReviewId(rs.getInt("review_id"));
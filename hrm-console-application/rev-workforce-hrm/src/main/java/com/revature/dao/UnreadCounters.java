@@ -0,0 +1,67 @@
+package com.revature.dao;
+
+import com.revature.util.DBConnection;
+import com.revature.util.ReferenceCache;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+//   Per-employee unread-notification counts for NotificationDAOImpl.countUnread.
+//   Seeded from COUNT(*) on first read, then moved by the DAO's own writes; entries re-seed after
+//   notification.unread.ttlSeconds so writes from other processes or rolled-back transactions can't drift for long.
+//   A striped write stamp stops a seed that raced a write from being stored.
+
+final class UnreadCounters {
+
+    private static final int STRIPES = 64;
+
+    private final Map<Integer, Entry> counts = new ConcurrentHashMap<>();
+    private final AtomicLongArray stamps = new AtomicLongArray(STRIPES);
+    private final long ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0, DBConnection.getIntProperty("notification.unread.ttlSeconds", 60)));
+
+    <E extends Exception> int get(int employeeId, ReferenceCache.Loader<Integer, E> loader) throws E {
+        Entry entry = counts.get(employeeId);
+        if (entry != null && System.nanoTime() - entry.loadedAt < ttlNanos) {
+            return entry.count.get();
+        }
+        long stamp = stamps.get(stripe(employeeId));
+        int count = loader.load();
+        if (ttlNanos > 0 && stamps.get(stripe(employeeId)) == stamp) {
+            counts.put(employeeId, new Entry(new AtomicInteger(count), System.nanoTime()));
+        }
+        return count;
+    }
+
+
+//   Committed change of delta unread rows for one employee
+
+    void adjust(int employeeId, int delta) {
+        stamps.incrementAndGet(stripe(employeeId));
+        Entry entry = counts.get(employeeId);
+        if (entry != null && entry.count.addAndGet(delta) < 0) {
+            counts.remove(employeeId, entry);
+        }
+    }
+
+
+//   Change of unknown size (other transaction, bulk insert)  ||  next read counts again
+
+    void invalidate(int employeeId) {
+        stamps.incrementAndGet(stripe(employeeId));
+        counts.remove(employeeId);
+    }
+
+    void invalidateAll() {
+        for (int i = 0; i < STRIPES; i++) stamps.incrementAndGet(i);
+        counts.clear();
+    }
+
+    private static int stripe(int employeeId) {
+        return employeeId & (STRIPES - 1);
+    }
+
+    private record Entry(AtomicInteger count, long loadedAt) {}
+}
@@ -0,0 +1,13 @@
+package com.revature.dao;
+
+import com.revature.model.WorkCalendar;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+
+public interface WorkCalendarDAO {
+    List<WorkCalendar> findAll() throws SQLException;
+    Optional<WorkCalendar> findByCode(String calendarCode) throws SQLException;
+    String findCodeByDepartment(int departmentId) throws SQLException;
+    boolean updateWeekend(String calendarCode, String weekendDays) throws SQLException;
+}
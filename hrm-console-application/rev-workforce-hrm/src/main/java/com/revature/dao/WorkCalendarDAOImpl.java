@@ -0,0 +1,88 @@
+package com.revature.dao;
+
+import com.revature.model.WorkCalendar;
+import com.revature.util.DBConnection;
+import com.revature.util.ReferenceCache;
+import com.revature.util.WorkingDayCalendar;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class WorkCalendarDAOImpl implements WorkCalendarDAO {
+
+    private static final ReferenceCache CACHE = ReferenceCache.region("calendars");
+
+    static {
+        CACHE.onInvalidate(WorkingDayCalendar::invalidateShared);
+    }
+
+    private static final String SELECT_ALL = "SELECT * FROM work_calendars ORDER BY calendar_code";
+    private static final String SELECT_BY_CODE = "SELECT * FROM work_calendars WHERE calendar_code = ?";
+    private static final String SELECT_CODE_BY_DEPARTMENT = "SELECT calendar_code FROM departments WHERE department_id = ?";
+    private static final String UPDATE_WEEKEND = "UPDATE work_calendars SET weekend_days = ? WHERE calendar_code = ?";
+
+    @Override
+    public List<WorkCalendar> findAll() throws SQLException {
+        return CACHE.get("all", () -> {
+            List<WorkCalendar> list = new ArrayList<>();
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_ALL);
+                 ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) list.add(mapResultSetToCalendar(rs));
+            }
+            return list;
+        });
+    }
+
+    @Override
+    public Optional<WorkCalendar> findByCode(String calendarCode) throws SQLException {
+        return CACHE.get("code:" + calendarCode, () -> {
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_BY_CODE)) {
+                stmt.setString(1, calendarCode);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) return Optional.of(mapResultSetToCalendar(rs));
+                }
+            }
+            return Optional.<WorkCalendar>empty();
+        });
+    }
+
+
+    //   Departments without a calendar fall back to DEFAULT
+
+    @Override
+    public String findCodeByDepartment(int departmentId) throws SQLException {
+        return CACHE.get("dept:" + departmentId, () -> {
+            try (Connection conn = DBConnection.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_CODE_BY_DEPARTMENT)) {
+                stmt.setInt(1, departmentId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next() && rs.getString("calendar_code") != null) return rs.getString("calendar_code");
+                }
+            }
+            return WorkCalendar.DEFAULT_CODE;
+        });
+    }
+
+    @Override
+    public boolean updateWeekend(String calendarCode, String weekendDays) throws SQLException {
+        try (Connection conn = DBConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(UPDATE_WEEKEND)) {
+            stmt.setString(1, weekendDays);
+            stmt.setString(2, calendarCode);
+            boolean updated = stmt.executeUpdate() > 0;
+            CACHE.invalidate();
+            return updated;
+        }
+    }
+
+    private WorkCalendar mapResultSetToCalendar(ResultSet rs) throws SQLException {
+        WorkCalendar calendar = new WorkCalendar();
+        calendar.setCalendarCode(rs.getString("calendar_code"));
+        calendar.setCalendarName(rs.getString("calendar_name"));
+        calendar.setWeekendDays(WorkingDayCalendar.parseWeekend(rs.getString("weekend_days")));
+        return calendar;
+    }
+}
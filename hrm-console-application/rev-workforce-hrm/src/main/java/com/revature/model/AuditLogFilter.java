@@ -0,0 +1,42 @@
+package com.revature.model;
+
+import java.time.LocalDateTime;
+
+
+//  AuditLogFilter - Optional criteria for audit log searches (null = any), window is [from, to)
+
+
+public class AuditLogFilter {
+    private Integer employeeId;
+    private AuditLog.EntityType entityType;
+    private Integer entityId;
+    private AuditLog.ActionType actionType;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    public AuditLogFilter() {}
+
+    public Integer getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Integer employeeId) { this.employeeId = employeeId; }
+
+    public AuditLog.EntityType getEntityType() { return entityType; }
+    public void setEntityType(AuditLog.EntityType entityType) { this.entityType = entityType; }
+
+    public Integer getEntityId() { return entityId; }
+    public void setEntityId(Integer entityId) { this.entityId = entityId; }
+
+    public AuditLog.ActionType getActionType() { return actionType; }
+    public void setActionType(AuditLog.ActionType actionType) { this.actionType = actionType; }
+
+    public LocalDateTime getFrom() { return from; }
+    public void setFrom(LocalDateTime from) { this.from = from; }
+
+    public LocalDateTime getTo() { return to; }
+    public void setTo(LocalDateTime to) { this.to = to; }
+
+    @Override
+    public String toString() {
+        return "AuditLogFilter{employeeId=" + employeeId + ", entityType=" + entityType + ", entityId=" + entityId
+                + ", actionType=" + actionType + ", from=" + from + ", to=" + to + "}";
+    }
+}
@@ -14,6 +14,7 @@ public class Holiday {
     private String description;
     private int year;
     private boolean isOptional;
+    private String calendarCode;
     private LocalDateTime createdAt;
 
     public Holiday() {
@@ -50,6 +51,9 @@ public class Holiday {
     public boolean isOptional() { return isOptional; }
     public void setOptional(boolean optional) { isOptional = optional; }
 
+    public String getCalendarCode() { return calendarCode; }
+    public void setCalendarCode(String calendarCode) { this.calendarCode = calendarCode; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
@@ -0,0 +1,56 @@
+package com.revature.model;
+
+
+//  OutboxEvent - A notification or audit row written in the business transaction, moved to its table by OutboxRelay
+
+public class OutboxEvent {
+    private long eventId;
+    private Kind kind;
+    private Notification notification;
+    private AuditLog auditLog;
+    private int attempts;
+    private String lastError;
+
+    public enum Kind {
+        NOTIFICATION, AUDIT
+    }
+
+    public OutboxEvent() {}
+
+    public OutboxEvent(Notification notification) {
+        this.kind = Kind.NOTIFICATION;
+        this.notification = notification;
+    }
+
+    public OutboxEvent(AuditLog auditLog) {
+        this.kind = Kind.AUDIT;
+        this.auditLog = auditLog;
+    }
+
+    public long getEventId() { return eventId; }
+    public void setEventId(long eventId) { this.eventId = eventId; }
+
+    public Kind getKind() { return kind; }
+    public void setKind(Kind kind) { this.kind = kind; }
+
+    public Notification getNotification() { return notification; }
+    public void setNotification(Notification notification) { this.notification = notification; }
+
+    public AuditLog getAuditLog() { return auditLog; }
+    public void setAuditLog(AuditLog auditLog) { this.auditLog = auditLog; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public boolean hasPayload() {
+        return kind == Kind.NOTIFICATION ? notification != null : kind == Kind.AUDIT && auditLog != null;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxEvent{eventId=" + eventId + ", kind=" + kind + ", attempts=" + attempts + "}";
+    }
+}
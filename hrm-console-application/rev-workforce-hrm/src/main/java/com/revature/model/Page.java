@@ -0,0 +1,34 @@
+package com.revature.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+
+//  One page of a keyset-paginated list plus the request for the following page (null on the last page)
+
+public class Page<T> {
+    private final List<T> items;
+    private final PageRequest next;
+
+    public Page(List<T> items, PageRequest next) {
+        this.items = items;
+        this.next = next;
+    }
+
+
+    //  DAOs fetch size + 1 rows; the extra row only signals that another page exists
+
+    public static <T> Page<T> of(List<T> rows, PageRequest request, Function<T, PageRequest> nextFrom) {
+        if (rows.size() <= request.getSize()) {
+            return new Page<>(rows, null);
+        }
+        List<T> items = rows.subList(0, request.getSize());
+        return new Page<>(items, nextFrom.apply(items.get(items.size() - 1)));
+    }
+
+    public List<T> getItems() { return items; }
+    public PageRequest getNext() { return next; }
+    public boolean hasNext() { return next != null; }
+    public boolean isEmpty() { return items.isEmpty(); }
+    public int size() { return items.size(); }
+}
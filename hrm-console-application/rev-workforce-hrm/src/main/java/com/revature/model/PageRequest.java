@@ -0,0 +1,40 @@
+package com.revature.model;
+
+import java.time.LocalDateTime;
+
+
+//  Keyset (seek) page request - carries the sort key of the last row seen instead of an offset
+
+public class PageRequest {
+    private final int size;
+    private final Integer afterId;
+    private final LocalDateTime afterTime;
+
+    private PageRequest(int size, Integer afterId, LocalDateTime afterTime) {
+        this.size = Math.max(1, size);
+        this.afterId = afterId;
+        this.afterTime = afterTime;
+    }
+
+    public static PageRequest first(int size) {
+        return new PageRequest(size, null, null);
+    }
+
+    public PageRequest after(int lastId) {
+        return new PageRequest(size, lastId, null);
+    }
+
+    public PageRequest after(LocalDateTime lastTime, int lastId) {
+        return new PageRequest(size, lastId, lastTime);
+    }
+
+    public int getSize() { return size; }
+    public Integer getAfterId() { return afterId; }
+    public LocalDateTime getAfterTime() { return afterTime; }
+    public boolean isFirst() { return afterId == null; }
+
+    @Override
+    public String toString() {
+        return "PageRequest{size=" + size + ", afterId=" + afterId + ", afterTime=" + afterTime + "}";
+    }
+}
@@ -0,0 +1,31 @@
+package com.revature.model;
+
+
+//  ReportingNode - One employee in a manager's reporting tree, with their level below the manager and sub-team size
+
+public class ReportingNode {
+    private Employee employee;
+    private int level;
+    private int below;
+
+    public ReportingNode() {}
+
+    public ReportingNode(Employee employee, int level) {
+        this.employee = employee;
+        this.level = level;
+    }
+
+    public Employee getEmployee() { return employee; }
+    public void setEmployee(Employee employee) { this.employee = employee; }
+
+    public int getLevel() { return level; }
+    public void setLevel(int level) { this.level = level; }
+
+    public int getBelow() { return below; }
+    public void setBelow(int below) { this.below = below; }
+
+    @Override
+    public String toString() {
+        return String.format("%s (level %d, %d below)", employee, level, below);
+    }
+}
@@ -0,0 +1,43 @@
+package com.revature.model;
+
+import java.math.BigDecimal;
+
+
+//  TeamSummary - Headcount and payroll of one direct report's whole sub-team
+
+public class TeamSummary {
+    private int leadId;
+    private String leadName;
+    private int headcount;
+    private BigDecimal totalSalary;
+    private int depth;
+
+    public TeamSummary() {
+        this.totalSalary = BigDecimal.ZERO;
+    }
+
+    public int getLeadId() { return leadId; }
+    public void setLeadId(int leadId) { this.leadId = leadId; }
+
+    public String getLeadName() { return leadName; }
+    public void setLeadName(String leadName) { this.leadName = leadName; }
+
+    public int getHeadcount() { return headcount; }
+    public void setHeadcount(int headcount) { this.headcount = headcount; }
+
+    public BigDecimal getTotalSalary() { return totalSalary; }
+    public void setTotalSalary(BigDecimal totalSalary) { this.totalSalary = totalSalary; }
+
+    public int getDepth() { return depth; }
+    public void setDepth(int depth) { this.depth = depth; }
+
+    public BigDecimal getAverageSalary() {
+        return headcount == 0 ? BigDecimal.ZERO
+                : totalSalary.divide(BigDecimal.valueOf(headcount), 2, java.math.RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s - %d people, %d levels, payroll %s", leadName, headcount, depth, totalSalary);
+    }
+}
@@ -0,0 +1,43 @@
+package com.revature.model;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Set;
+
+
+//  WorkCalendar Entity - Weekend days and holiday list used by an office / department
+
+public class WorkCalendar {
+    public static final String DEFAULT_CODE = "DEFAULT";
+
+    private String calendarCode;
+    private String calendarName;
+    private Set<DayOfWeek> weekendDays;
+
+    public WorkCalendar() {
+        this.weekendDays = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+    }
+
+    public WorkCalendar(String calendarCode, String calendarName, Set<DayOfWeek> weekendDays) {
+        this.calendarCode = calendarCode;
+        this.calendarName = calendarName;
+        setWeekendDays(weekendDays);
+    }
+
+    public String getCalendarCode() { return calendarCode; }
+    public void setCalendarCode(String calendarCode) { this.calendarCode = calendarCode; }
+
+    public String getCalendarName() { return calendarName; }
+    public void setCalendarName(String calendarName) { this.calendarName = calendarName; }
+
+    public Set<DayOfWeek> getWeekendDays() { return weekendDays; }
+    public void setWeekendDays(Set<DayOfWeek> weekendDays) {
+        this.weekendDays = weekendDays == null || weekendDays.isEmpty()
+                ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekendDays);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s - %s (weekend : %s)", calendarCode, calendarName, weekendDays);
+    }
+}
@@ -0,0 +1,55 @@
+package com.revature.service;
+
+import com.revature.dao.AuditLogDAO;
+import com.revature.dao.AuditLogDAOImpl;
+import com.revature.exception.AppException;
+import com.revature.util.DBConnection;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+
+//   Background audit_logs housekeeping  ||  keeps future month partitions in place and retires expired months.
+//   Runs a minute after startup, then every audit.retention.intervalHours (0 disables).
+
+public class AuditRetentionJob {
+
+    private final AuditLogDAO auditLogDAO;
+    private ScheduledExecutorService scheduler;
+
+    public AuditRetentionJob() {
+        this.auditLogDAO = new AuditLogDAOImpl();
+    }
+
+    public synchronized void start() {
+        int intervalHours = DBConnection.getIntProperty("audit.retention.intervalHours", 24);
+        if (intervalHours <= 0 || scheduler != null) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "hrm-audit-retention");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::runOnce, 1, TimeUnit.HOURS.toMinutes(intervalHours), TimeUnit.MINUTES);
+    }
+
+    public void runOnce() {
+        try {
+            int added = auditLogDAO.ensurePartitions(Math.max(1, DBConnection.getIntProperty("audit.partition.monthsAhead", 3)));
+            int removed = auditLogDAO.deleteOldLogs();
+            if (added > 0 || removed > 0) {
+                System.out.println("Audit retention : " + added + " partition(s) added, " + removed + " expired row(s) archived");
+            }
+        } catch (AppException e) {
+            System.err.println("Audit retention failed : " + e.getMessage());
+        }
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+}
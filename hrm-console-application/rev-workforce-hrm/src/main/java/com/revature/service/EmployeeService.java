@@ -4,12 +4,14 @@ import com.revature.dao.*;
 import com.revature.exception.AppException;
 import com.revature.model.*;
 import com.revature.util.DBConnection;
+import com.revature.util.OrgTree;
 import com.revature.util.PasswordUtil;
 import com.revature.util.ValidationUtil;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 public class EmployeeService {
@@ -80,6 +82,19 @@ public class EmployeeService {
         }
     }
 
+    public Page<Employee> getEmployeesPage(PageRequest request) throws AppException {
+        try {
+            if (authService.isAdmin()) {
+                return employeeDAO.findPage(request);
+            }
+            Employee current = authService.getLoggedInUser();
+            if (current == null) throw new AppException(AppException.ErrorCode.UNAUTHORIZED);
+            return new Page<>(employeeDAO.findByManagerId(current.getEmployeeId()), null);
+        } catch (SQLException e) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Fetch page failed");
+        }
+    }
+
     public Employee addEmployee(Employee employee, String password) throws AppException {
         if (!authService.isAdmin()) throw new AppException(AppException.ErrorCode.UNAUTHORIZED);
         validateEmployeeData(employee);
@@ -172,6 +187,57 @@ public class EmployeeService {
         return employeeDAO.findByManagerId(current.getEmployeeId());
     }
 
+
+
+    //   Skip-level views  ||  everyone below the logged-in manager, not just direct reports
+
+    public List<ReportingNode> getReportingTree() throws AppException {
+        Employee current = authService.getLoggedInUser();
+        if (current == null) throw new AppException(AppException.ErrorCode.UNAUTHORIZED);
+        try {
+            return employeeDAO.findSubtree(current.getEmployeeId());
+        } catch (SQLException e) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to load reporting tree");
+        }
+    }
+
+    public List<TeamSummary> getTeamSummaries() throws AppException {
+        Employee current = authService.getLoggedInUser();
+        if (current == null) throw new AppException(AppException.ErrorCode.UNAUTHORIZED);
+        try {
+            return employeeDAO.findTeamSummaries(current.getEmployeeId());
+        } catch (SQLException e) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to load team summary");
+        }
+    }
+
+    public List<Employee> getManagementChain(int employeeId) throws AppException {
+        Employee current = authService.getLoggedInUser();
+        if (current == null) throw new AppException(AppException.ErrorCode.UNAUTHORIZED);
+        if (!authService.isAdmin() && current.getEmployeeId() != employeeId && !isInReportingLine(employeeId)) {
+            throw new AppException(AppException.ErrorCode.UNAUTHORIZED, "Employee is not in your reporting line");
+        }
+        try {
+            return employeeDAO.findManagementChain(employeeId);
+        } catch (SQLException e) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to load management chain");
+        }
+    }
+
+    public boolean isInReportingLine(int employeeId) throws AppException {
+        Employee current = authService.getLoggedInUser();
+        if (current == null) throw new AppException(AppException.ErrorCode.UNAUTHORIZED);
+        return getOrgTree().isUnder(employeeId, current.getEmployeeId());
+    }
+
+    public OrgTree getOrgTree() throws AppException {
+        try {
+            return employeeDAO.getOrgTree();
+        } catch (SQLException e) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to load org chart");
+        }
+    }
+
     public List<Department> getAllDepartments() throws AppException {
         return departmentDAO.getAll();
     }
@@ -180,6 +246,7 @@ public class EmployeeService {
         List<LeaveType> types = leaveTypeDAO.findAll();
         int currentYear = LocalDate.now().getYear();
 
+        List<LeaveBalance> balances = new ArrayList<>();
         for (LeaveType t : types) {
             if (t.isActive()) {
                 LeaveBalance b = new LeaveBalance();
@@ -188,9 +255,10 @@ public class EmployeeService {
                 b.setYear(currentYear);
                 b.setTotalLeaves(t.getMaxDaysPerYear());
                 b.setUsedLeaves(0);
-                leaveBalanceDAO.create(b);
+                balances.add(b);
             }
         }
+        leaveBalanceDAO.createAll(balances);
     }
 
     private void validateEmployeeData(Employee e) throws AppException {
@@ -3,13 +3,15 @@ package com.revature.service;
 import com.revature.dao.*;
 import com.revature.exception.AppException;
 import com.revature.model.*;
+import com.revature.util.DBConnection;
+import com.revature.util.WorkingDayCalendar;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 public class LeaveService {
     private final LeaveRequestDAO leaveRequestDAO;
@@ -20,6 +22,11 @@ public class LeaveService {
     private final AuditLogDAO auditLogDAO;
     private final NotificationService notificationService;
     private final AuthService authService;
+    private final WorkCalendarDAO workCalendarDAO;
+    private final OutboxDAO outboxDAO;
+
+//   notifications.message is VARCHAR(255); manager comments are unbounded and must never fail the decision itself
+    private static final int NOTIFICATION_MESSAGE_LENGTH = 255;
 
     public LeaveService(AuthService authService, NotificationService notificationService) {
         this.leaveRequestDAO = new LeaveRequestDAOImpl();
@@ -30,29 +37,44 @@ public class LeaveService {
         this.auditLogDAO = new AuditLogDAOImpl();
         this.notificationService = notificationService;
         this.authService = authService;
+        this.workCalendarDAO = new WorkCalendarDAOImpl();
+        this.outboxDAO = new OutboxDAOImpl();
     }
 
+//   Approve / reject  ||  the decision, its audit row and the employee's notification commit together through
+//   outbox_events; OutboxRelay moves the last two into audit_logs / notifications after the commit
+
     public void approveLeave(int leaveRequestId, String managerComments) throws AppException {
         Employee user = authService.getLoggedInUser();
         if (user.getRole() != Employee.Role.MANAGER && user.getRole() != Employee.Role.ADMIN) {
             throw new AppException(AppException.ErrorCode.UNAUTHORIZED, "Only Manager/Admin can approve");
         }
+        Connection conn = null;
         try {
             LeaveRequest request = leaveRequestDAO.findById(leaveRequestId)
                     .orElseThrow(() -> new AppException(AppException.ErrorCode.INVALID_INPUT, "Request not found"));
             if (request.getStatus() != LeaveRequest.LeaveStatus.PENDING) {
                 throw new AppException(AppException.ErrorCode.INVALID_INPUT, "Request is already " + request.getStatus());
             }
-            boolean success = leaveRequestDAO.approveLeaveWithBalance(leaveRequestId, user.getEmployeeId(), managerComments);
+            conn = DBConnection.getConnection();
+            conn.setAutoCommit(false);
+            boolean success = leaveRequestDAO.approveLeaveWithBalance(conn, leaveRequestId, user.getEmployeeId(), managerComments);
             if (!success) {
                 throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Approval failed due to balance or DB error");
             }
-            logAudit(null, AuditLog.ActionType.APPROVE, AuditLog.EntityType.LEAVE_REQUEST,
-                    leaveRequestId, "Status : PENDING", "Status : APPROVED | Comments : " + managerComments);
-            sendApprovalNotification(request, true, managerComments);
-        } catch (SQLException e) {
+            outboxDAO.append(conn, List.of(
+                    new OutboxEvent(auditEntry(AuditLog.ActionType.APPROVE, AuditLog.EntityType.LEAVE_REQUEST,
+                            leaveRequestId, "Status : PENDING", "Status : APPROVED | Comments : " + managerComments)),
+                    new OutboxEvent(approvalNotification(request, true, managerComments))));
+            conn.commit();
+        } catch (Exception e) {
+            rollback(conn);
+            if (e instanceof AppException) throw (AppException) e;
             throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Database issue : " + e.getMessage());
+        } finally {
+            close(conn);
         }
+        OutboxRelay.get().nudge();
     }
 
     public void rejectLeave(int leaveRequestId, String managerComments) throws AppException {
@@ -60,18 +82,30 @@ public class LeaveService {
         if (user.getRole() != Employee.Role.MANAGER && user.getRole() != Employee.Role.ADMIN) {
             throw new AppException(AppException.ErrorCode.UNAUTHORIZED, "Only Manager/Admin can reject");
         }
+        Connection conn = null;
         try {
             LeaveRequest request = leaveRequestDAO.findById(leaveRequestId)
                     .orElseThrow(() -> new AppException(AppException.ErrorCode.INVALID_INPUT, "Request not found"));
-            boolean success = leaveRequestDAO.updateStatus(leaveRequestId, LeaveRequest.LeaveStatus.REJECTED, user.getEmployeeId(), managerComments);
-            if (success) {
-                logAudit(null, AuditLog.ActionType.REJECT, AuditLog.EntityType.LEAVE_REQUEST,
-                        leaveRequestId, "Status: PENDING", "Status: REJECTED | Reason: " + managerComments);
-                sendApprovalNotification(request, false, managerComments);
+            conn = DBConnection.getConnection();
+            conn.setAutoCommit(false);
+            boolean success = leaveRequestDAO.updateStatus(conn, leaveRequestId, LeaveRequest.LeaveStatus.REJECTED, user.getEmployeeId(), managerComments);
+            if (!success) {
+                conn.rollback();
+                return;
             }
-        } catch (SQLException e) {
+            outboxDAO.append(conn, List.of(
+                    new OutboxEvent(auditEntry(AuditLog.ActionType.REJECT, AuditLog.EntityType.LEAVE_REQUEST,
+                            leaveRequestId, "Status: PENDING", "Status: REJECTED | Reason: " + managerComments)),
+                    new OutboxEvent(approvalNotification(request, false, managerComments))));
+            conn.commit();
+        } catch (Exception e) {
+            rollback(conn);
+            if (e instanceof AppException) throw (AppException) e;
             throw new AppException(AppException.ErrorCode.DATABASE_ERROR, e.getMessage());
+        } finally {
+            close(conn);
         }
+        OutboxRelay.get().nudge();
     }
 
     public void cancelLeave(int requestId) throws AppException {
@@ -120,18 +154,27 @@ public class LeaveService {
 
     public int calculateWorkingDays(LocalDate startDate, LocalDate endDate) throws AppException {
         try {
-            List<LocalDate> holidays = holidayDAO.findByYear(startDate.getYear()).stream().map(Holiday::getHolidayDate).collect(Collectors.toList());
-            int days = 0;
-            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-                if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY && !holidays.contains(date))
-                    days++;
-            }
-            return days;
+            return calendarFor(authService.getLoggedInUser()).workingDaysBetween(startDate, endDate);
         } catch (SQLException e) {
             throw new AppException(AppException.ErrorCode.DATABASE_ERROR, e.getMessage());
         }
     }
 
+
+
+    //   Department -> work calendar  ||  weekend and holiday list come from the employee's regional calendar
+
+    private WorkingDayCalendar calendarFor(Employee employee) throws SQLException {
+        String code = employee == null || employee.getDepartmentId() == 0
+                ? WorkCalendar.DEFAULT_CODE
+                : workCalendarDAO.findCodeByDepartment(employee.getDepartmentId());
+        Set<DayOfWeek> weekend = workCalendarDAO.findByCode(code)
+                .map(WorkCalendar::getWeekendDays)
+                .orElse(WorkingDayCalendar.defaultWeekend());
+        return WorkingDayCalendar.shared(code, weekend,
+                year -> holidayDAO.findByYearAndCalendar(year, code).stream().map(Holiday::getHolidayDate).toList());
+    }
+
     public List<LeaveRequest> getMyLeaveHistory() throws AppException {
         try {
             return leaveRequestDAO.findByEmployee(authService.getLoggedInUser().getEmployeeId());
@@ -149,10 +192,19 @@ public class LeaveService {
         }
     }
 
+    public Page<LeaveRequest> getTeamLeaveRequestsPage(PageRequest request) throws AppException {
+        Employee user = authService.getLoggedInUser();
+        try {
+            return authService.isAdmin() ? leaveRequestDAO.findPage(request) : leaveRequestDAO.findPageByManager(user.getEmployeeId(), request);
+        } catch (SQLException e) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, e.getMessage());
+        }
+    }
+
     public List<LeaveRequest> getPendingRequests() throws AppException {
         Employee user = authService.getLoggedInUser();
         try {
-            return authService.isAdmin() ? leaveRequestDAO.findAll().stream().filter(r -> r.getStatus() == LeaveRequest.LeaveStatus.PENDING).collect(Collectors.toList()) : leaveRequestDAO.findPendingByManager(user.getEmployeeId());
+            return authService.isAdmin() ? leaveRequestDAO.findPendingAll() : leaveRequestDAO.findPendingByManager(user.getEmployeeId());
         } catch (SQLException e) {
             throw new AppException(AppException.ErrorCode.DATABASE_ERROR, e.getMessage());
         }
@@ -173,14 +225,7 @@ public class LeaveService {
     private void logAudit(Connection conn, AuditLog.ActionType action, AuditLog.EntityType entity,
                           Integer id, String oldVal, String newVal) {
         try {
-            AuditLog log = new AuditLog();
-            log.setActionType(action);
-            log.setEntityType(entity);
-            log.setEntityId(id);
-            log.setOldValue(oldVal);
-            log.setNewValue(newVal);
-            log.setEmployeeId(authService.getLoggedInUser().getEmployeeId());
-            log.setActionTimestamp(LocalDateTime.now());
+            AuditLog log = auditEntry(action, entity, id, oldVal, newVal);
             if (conn != null) {
                 auditLogDAO.logAudit(conn, log);
             } else {
@@ -207,6 +252,14 @@ public class LeaveService {
         } catch (SQLException e) {
             throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Error adding holiday : " + e.getMessage());
         }
+
+        try {
+            notificationService.sendToAll("Holiday Added",
+                    holiday.getHolidayName() + " on " + holiday.getHolidayDate() + " is now a holiday.",
+                    holiday.getHolidayDate());
+        } catch (AppException e) {
+            System.err.println("Holiday notification failed : " + e.getMessage());
+        }
     }
 
     public List<LeaveType> getAllLeaveTypes() throws AppException {
@@ -226,21 +279,39 @@ public class LeaveService {
         }
     }
 
-    private void sendApprovalNotification(LeaveRequest request, boolean isApproved, String comments) {
-        try {
-            String status = isApproved ? "APPROVED" : "REJECTED";
-            String title = "Leave Request " + status;
-            String message = String.format("Your leave request for %s to %s has been %s. Manager Comments: %s",
-                    request.getStartDate(), request.getEndDate(), status.toLowerCase(),
-                    (comments == null || comments.isEmpty()) ? "None" : comments);
-            notificationService.sendNotification(
-                    request.getEmployeeId(),
-                    title,
-                    message,
-                    "LEAVE"
-            );
-        } catch (Exception e) {
-            System.err.println("Notification Trigger Failed : " + e.getMessage());
+    private AuditLog auditEntry(AuditLog.ActionType action, AuditLog.EntityType entity,
+                                Integer id, String oldVal, String newVal) {
+        AuditLog log = new AuditLog();
+        log.setActionType(action);
+        log.setEntityType(entity);
+        log.setEntityId(id);
+        log.setOldValue(oldVal);
+        log.setNewValue(newVal);
+        log.setEmployeeId(authService.getLoggedInUser().getEmployeeId());
+        log.setActionTimestamp(LocalDateTime.now());
+        return log;
+    }
+
+    private Notification approvalNotification(LeaveRequest request, boolean isApproved, String comments) {
+        String status = isApproved ? "APPROVED" : "REJECTED";
+        String title = "Leave Request " + status;
+        String message = String.format("Your leave request for %s to %s has been %s. Manager Comments: %s",
+                request.getStartDate(), request.getEndDate(), status.toLowerCase(),
+                (comments == null || comments.isEmpty()) ? "None" : comments);
+        if (message.length() > NOTIFICATION_MESSAGE_LENGTH) {
+            message = message.substring(0, NOTIFICATION_MESSAGE_LENGTH - 3) + "...";
         }
+        return new Notification(request.getEmployeeId(), title, message,
+                Notification.NotificationType.LEAVE, request.getRequestId());
+    }
+
+    private void rollback(Connection c) {
+        if (c != null) try { c.rollback(); } catch (SQLException ignored) {}
+    }
+
+    private void close(Connection c) {
+        if (c == null) return;
+        try { c.setAutoCommit(true); } catch (SQLException ignored) {}
+        try { c.close(); } catch (SQLException ignored) {}
     }
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package com.revature.service;
+
+import com.revature.dao.NotificationDAO;
+import com.revature.dao.NotificationDAOImpl;
+import com.revature.model.Notification;
+import com.revature.util.DBConnection;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+//   Background delivery for notifications raised by business actions (leave decisions, reviews, goals).
+//   Callers hand the row over and return; notification.dispatch.threads workers insert it. A failed insert is retried
+//   with exponential backoff (backoffMs doubling up to maxBackoffMs, with jitter) and after maxAttempts it is written
+//   to notification_dead_letters. A full queue makes the caller deliver the row itself rather than lose it.
+
+public final class NotificationDispatcher {
+
+    private final NotificationDAO notificationDAO;
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService retries;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+    private final Set<Retry> waiting = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = true;
+
+
+//   Counters exposed through getStats()
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong callerRuns = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final AtomicLong lost = new AtomicLong();
+
+    private NotificationDispatcher() {
+        this.notificationDAO = new NotificationDAOImpl();
+        this.maxAttempts = Math.max(1, DBConnection.getIntProperty("notification.dispatch.maxAttempts", 5));
+        this.backoffMs = Math.max(10, DBConnection.getIntProperty("notification.dispatch.backoffMs", 500));
+        this.maxBackoffMs = Math.max(backoffMs, DBConnection.getIntProperty("notification.dispatch.maxBackoffMs", 30000));
+
+        int threads = Math.max(1, DBConnection.getIntProperty("notification.dispatch.threads", 2));
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, DBConnection.getIntProperty("notification.dispatch.queueCapacity", 1000))),
+                r -> daemon(r, "hrm-notify-" + seq.incrementAndGet()),
+                (r, executor) -> {
+                    callerRuns.incrementAndGet();
+                    r.run();
+                });
+        this.retries = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "hrm-notify-retry"));
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "hrm-notify-shutdown"));
+    }
+
+    public static boolean enabled() {
+        return Boolean.parseBoolean(DBConnection.getProperty("notification.dispatch.async", "true"));
+    }
+
+    public static NotificationDispatcher get() {
+        return Holder.INSTANCE;
+    }
+
+    public void submit(Notification notification) {
+        submitted.incrementAndGet();
+        schedule(notification, 1);
+    }
+
+    private void schedule(Notification notification, int attempt) {
+        workers.execute(() -> attempt(notification, attempt));
+    }
+
+    private void attempt(Notification notification, int attempt) {
+        try {
+            notification.setNotificationId(notificationDAO.createNotification(notification));
+            delivered.incrementAndGet();
+        } catch (RuntimeException e) {
+            if (attempt >= maxAttempts || !running) {
+                deadLetter(notification, attempt, e);
+                return;
+            }
+            long delay = Math.min(maxBackoffMs, backoffMs << Math.min(attempt - 1, 20));
+            delay = delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+            Retry retry = new Retry(notification, attempt + 1);
+            waiting.add(retry);
+            try {
+                retries.schedule(() -> {
+                    if (waiting.remove(retry)) schedule(notification, retry.attempt());
+                }, delay, TimeUnit.MILLISECONDS);
+                retried.incrementAndGet();
+            } catch (RejectedExecutionException shuttingDown) {
+                if (waiting.remove(retry)) deadLetter(notification, attempt, e);
+            }
+        }
+    }
+
+    private void deadLetter(Notification notification, int attempts, RuntimeException cause) {
+        try {
+            notificationDAO.createDeadLetter(notification, attempts, cause.getMessage());
+            deadLettered.incrementAndGet();
+            System.err.println("Notification for employee " + notification.getEmployeeId() + " dead-lettered after "
+                    + attempts + " attempt(s) : " + cause.getMessage());
+        } catch (SQLException | RuntimeException e) {
+            lost.incrementAndGet();
+            System.err.println("Notification for employee " + notification.getEmployeeId() + " lost ("
+                    + notification.getTitle() + ") : " + e.getMessage());
+        }
+    }
+
+
+//   Shutdown  ||  waiting retries get one last immediate attempt, then the queue drains; whatever still fails is dead-lettered
+
+    public synchronized void shutdown() {
+        if (!running) return;
+        running = false;
+        retries.shutdownNow();
+        workers.shutdown();
+        for (Retry retry : waiting) {
+            if (waiting.remove(retry)) schedule(retry.notification(), retry.attempt());
+        }
+        try {
+            if (!workers.awaitTermination(Math.max(1000, DBConnection.getIntProperty("notification.dispatch.shutdownMs", 10000)), TimeUnit.MILLISECONDS)) {
+                List<Runnable> rest = workers.shutdownNow();
+                rest.forEach(Runnable::run);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (submitted.get() > 0) {
+            System.err.println("Notification dispatcher stopped " + getStats());
+        }
+    }
+
+    public int getQueueDepth() { return workers.getQueue().size(); }
+    public long getSubmitted() { return submitted.get(); }
+    public long getDelivered() { return delivered.get(); }
+    public long getRetried() { return retried.get(); }
+    public long getDeadLettered() { return deadLettered.get(); }
+
+    public String getStats() {
+        return String.format("[queued=%d, submitted=%d, delivered=%d, callerRuns=%d, retried=%d, deadLettered=%d, lost=%d]",
+                getQueueDepth(), getSubmitted(), getDelivered(), callerRuns.get(), getRetried(), getDeadLettered(), lost.get());
+    }
+
+    private static Thread daemon(Runnable r, String name) {
+        Thread t = new Thread(r, name);
+        t.setDaemon(true);
+        return t;
+    }
+
+    private record Retry(Notification notification, int attempt) {}
+
+    private static final class Holder {
+        private static final NotificationDispatcher INSTANCE = new NotificationDispatcher();
+    }
+}
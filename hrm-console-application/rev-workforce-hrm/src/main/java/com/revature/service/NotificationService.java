@@ -4,12 +4,21 @@ import com.revature.dao.*;
 import com.revature.exception.AppException;
 import com.revature.model.Notification;
 import com.revature.model.Announcement;
+import com.revature.model.Employee;
 import com.revature.model.AuditLog;
+import com.revature.model.AuditLogFilter;
+import com.revature.model.Page;
+import com.revature.model.PageRequest;
 import com.revature.dao.AuditLogDAOImpl;
+import com.revature.util.DBConnection;
 import com.revature.util.ValidationUtil;
 
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 
@@ -20,6 +29,8 @@ public class NotificationService {
     private final AuditLogDAO auditLogDAO;
     private AuthService authService;
 
+    private static final int INBOX_SIZE = 50;
+
     public NotificationService() {
         this.notificationDAO = new NotificationDAOImpl();
         this.announcementDAO = new AnnouncementDAOImpl();
@@ -36,32 +47,24 @@ public class NotificationService {
 
     public Notification sendNotification(int employeeId, String title, String message,
                                          String type) throws AppException {
-        if (ValidationUtil.isNullOrEmpty(title)) {
-            throw new AppException(AppException.ErrorCode.INVALID_INPUT, "Notification title is required");
-        }
-        if (ValidationUtil.isNullOrEmpty(message)) {
-            throw new AppException(AppException.ErrorCode.INVALID_INPUT, "Notification message is required");
-        }
+        return deliver(buildNotification(employeeId, title, message, type));
+    }
 
-        try {
-            Notification notification = new Notification();
-            notification.setEmployeeId(employeeId);
-            notification.setTitle(title);
-            notification.setMessage(message);
-            Notification.NotificationType finalType = Notification.NotificationType.SYSTEM;
-
-            if (type != null) {
-                try {
-                    finalType = Notification.NotificationType.valueOf(type.toUpperCase());
-                } catch (IllegalArgumentException e) {
-                    finalType = Notification.NotificationType.SYSTEM;
-                }
-            }
-            notification.setNotificationType(finalType);
 
-            notification.setRead(false);
-            notification.setCreatedAt(LocalDateTime.now());
+//   Side effect of a business action  ||  validated here, inserted by NotificationDispatcher (retried, dead-lettered)
+//   so the action returns without waiting on a second connection
+
+    public void queueNotification(int employeeId, String title, String message, String type) throws AppException {
+        Notification notification = buildNotification(employeeId, title, message, type);
+        if (NotificationDispatcher.enabled()) {
+            NotificationDispatcher.get().submit(notification);
+        } else {
+            deliver(notification);
+        }
+    }
 
+    private Notification deliver(Notification notification) throws AppException {
+        try {
             int generatedId = notificationDAO.createNotification(notification);
             notification.setNotificationId(generatedId);
 
@@ -72,14 +75,109 @@ public class NotificationService {
         }
     }
 
+
+//   Broadcasts  ||  Admin only; one statement per call whatever the audience size; returns how many employees were notified
+
+    public int sendToMany(List<Integer> employeeIds, String title, String message, Notification.NotificationType type) throws AppException {
+        requireAdmin();
+        if (employeeIds == null || employeeIds.isEmpty()) return 0;
+        Notification template = broadcastTemplate(title, message, type);
+        try {
+            return notificationDAO.createForEmployees(employeeIds, template);
+        } catch (SQLException e) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to send notifications : " + e.getMessage());
+        }
+    }
+
+//   Company-wide  ||  one announcement row, merged into every inbox at read time instead of a row per employee.
+//   It shows as an ANNOUNCEMENT, so there is no notification type to pass. It leaves the board after validUntil
+//   (null = notification.broadcast.validDays from today). Returns the announcement id, not a recipient count.
+
+    public int sendToAll(String title, String message, LocalDate validUntil) throws AppException {
+        requireAdmin();
+        Notification template = broadcastTemplate(title, message, null);
+        try {
+            Announcement announcement = new Announcement();
+            announcement.setTitle(template.getTitle());
+            announcement.setContent(template.getMessage());
+            announcement.setCreatedBy(authService.getLoggedInUser().getEmployeeId());
+            announcement.setCreatedAt(LocalDateTime.now());
+            announcement.setValidUntil(validUntil != null ? validUntil
+                    : LocalDate.now().plusDays(Math.max(1, DBConnection.getIntProperty("notification.broadcast.validDays", 30))));
+            announcement.setActive(true);
+            return announcementDAO.create(announcement).getAnnouncementId();
+        } catch (SQLException e) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to send notifications : " + e.getMessage());
+        }
+    }
+
+    public int sendToRole(Employee.Role role, String title, String message, Notification.NotificationType type) throws AppException {
+        requireAdmin();
+        if (role == null) throw new AppException(AppException.ErrorCode.INVALID_INPUT, "Role is required");
+        Notification template = broadcastTemplate(title, message, type);
+        try {
+            return notificationDAO.createForRole(role, template);
+        } catch (SQLException e) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to send notifications : " + e.getMessage());
+        }
+    }
+
+    public int sendToDepartment(int departmentId, String title, String message, Notification.NotificationType type) throws AppException {
+        requireAdmin();
+        Notification template = broadcastTemplate(title, message, type);
+        try {
+            return notificationDAO.createForDepartment(departmentId, template);
+        } catch (SQLException e) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to send notifications : " + e.getMessage());
+        }
+    }
+
+    private void requireAdmin() throws AppException {
+        if (authService == null || authService.getLoggedInUser() == null) {
+            throw new AppException(AppException.ErrorCode.UNAUTHORIZED, "User not authenticated");
+        }
+        if (!authService.isAdmin()) {
+            throw new AppException(AppException.ErrorCode.UNAUTHORIZED, "Only Admin can send broadcast notifications");
+        }
+    }
+
+    private Notification broadcastTemplate(String title, String message, Notification.NotificationType type) throws AppException {
+        if (ValidationUtil.isNullOrEmpty(title)) {
+            throw new AppException(AppException.ErrorCode.INVALID_INPUT, "Notification title is required");
+        }
+        if (ValidationUtil.isNullOrEmpty(message)) {
+            throw new AppException(AppException.ErrorCode.INVALID_INPUT, "Notification message is required");
+        }
+        Notification template = new Notification();
+        template.setTitle(title);
+        template.setMessage(message);
+        template.setNotificationType(type != null ? type : Notification.NotificationType.SYSTEM);
+        template.setCreatedAt(LocalDateTime.now());
+        return template;
+    }
+
+
+//   Bulk variant for review cycles  ||  runs on the caller's connection so it commits with the reviews
+
+    public int sendReviewCycleNotifications(Connection conn, int year, String period, int afterReviewId,
+                                            String title, String message) throws SQLException {
+        return notificationDAO.createForNewReviews(conn, year, period, afterReviewId, title, message);
+    }
+
     public List<Notification> getMyNotifications() throws AppException {
         if (authService == null || authService.getLoggedInUser() == null) {
             throw new AppException(AppException.ErrorCode.UNAUTHORIZED, "User not authenticated");
         }
 
         try {
-            return notificationDAO.findByEmployee(
-                    authService.getLoggedInUser().getEmployeeId());
+            int employeeId = authService.getLoggedInUser().getEmployeeId();
+            List<Notification> inbox = new ArrayList<>(notificationDAO.findByEmployee(employeeId));
+            int watermark = announcementDAO.findReadWatermark(employeeId);
+            for (Announcement a : announcementDAO.findActive()) {
+                inbox.add(asNotification(a, employeeId, watermark));
+            }
+            inbox.sort(Comparator.comparing(Notification::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())));
+            return inbox.size() > INBOX_SIZE ? inbox.subList(0, INBOX_SIZE) : inbox;
         } catch (Exception e) {
             throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to fetch notifications : " + e.getMessage());
         }
@@ -104,8 +202,13 @@ public class NotificationService {
         }
 
         try {
-            return notificationDAO.countUnread(
-                    authService.getLoggedInUser().getEmployeeId());
+            int employeeId = authService.getLoggedInUser().getEmployeeId();
+            int watermark = announcementDAO.findReadWatermark(employeeId);
+            int unreadBroadcasts = 0;
+            for (Announcement a : announcementDAO.findActive()) {
+                if (a.getAnnouncementId() > watermark) unreadBroadcasts++;
+            }
+            return notificationDAO.countUnread(employeeId) + unreadBroadcasts;
         } catch (Exception e) {
             throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to count notifications : " + e.getMessage());
         }
@@ -134,8 +237,9 @@ public class NotificationService {
 
     public void markAllAsRead() throws AppException {
         try {
-            notificationDAO.markAllAsRead(
-                    authService.getLoggedInUser().getEmployeeId());
+            int employeeId = authService.getLoggedInUser().getEmployeeId();
+            notificationDAO.markAllAsRead(employeeId);
+            markAnnouncementsRead(employeeId, announcementDAO.findActive());
         } catch (Exception e) {
             throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to mark notifications : " + e.getMessage());
         }
@@ -197,6 +301,19 @@ public class NotificationService {
         }
     }
 
+
+//   Called by the screen that actually showed the announcements  ||  fetching them alone does not clear [NEW]
+
+    public void markAnnouncementsRead(List<Announcement> shown) throws AppException {
+        if (authService == null || authService.getLoggedInUser() == null) return;
+
+        try {
+            markAnnouncementsRead(authService.getLoggedInUser().getEmployeeId(), shown);
+        } catch (Exception e) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to mark announcements : " + e.getMessage());
+        }
+    }
+
     public List<AuditLog> getAuditLogs(int limit) throws AppException {
         try {
             AuditLogDAO auditLogDAO = new AuditLogDAOImpl();
@@ -207,6 +324,20 @@ public class NotificationService {
         }
     }
 
+    public Page<AuditLog> searchAuditLogs(AuditLogFilter filter, PageRequest request) throws AppException {
+        if (authService != null && !authService.isAdmin()) {
+            throw new AppException(AppException.ErrorCode.UNAUTHORIZED);
+        }
+        if (filter.getFrom() != null && filter.getTo() != null && !filter.getFrom().isBefore(filter.getTo())) {
+            throw new AppException(AppException.ErrorCode.INVALID_INPUT, "Start of the window must be before its end");
+        }
+        try {
+            return auditLogDAO.search(filter, request);
+        } catch (SQLException e) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Audit search failed");
+        }
+    }
+
     public Announcement updateAnnouncement(Announcement announcement) throws AppException {
         if (!authService.isAdmin()) {
             throw new AppException(AppException.ErrorCode.UNAUTHORIZED, "Only Admin can update announcements");
@@ -268,11 +399,20 @@ public class NotificationService {
         }
     }
 
+    public Page<Announcement> getAnnouncementsPage(PageRequest request) throws AppException {
+        if (authService == null || !authService.isAdmin()) {
+            throw new AppException(AppException.ErrorCode.UNAUTHORIZED, "Access denied");
+        }
+        try {
+            return announcementDAO.findPage(request);
+        } catch (Exception e) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to fetch announcements");
+        }
+    }
+
     public List<Announcement> getRecentAnnouncements(int limit) throws AppException {
         try {
-            return announcementDAO.findAll().stream()
-                    .limit(limit)
-                    .toList();
+            return announcementDAO.findRecent(limit);
         } catch (Exception e) {
             throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to fetch recent announcements");
         }
@@ -282,6 +422,52 @@ public class NotificationService {
     // ==================== HELPER METHODS ====================
 
 
+    private Notification buildNotification(int employeeId, String title, String message, String type) throws AppException {
+        if (ValidationUtil.isNullOrEmpty(title)) {
+            throw new AppException(AppException.ErrorCode.INVALID_INPUT, "Notification title is required");
+        }
+        if (ValidationUtil.isNullOrEmpty(message)) {
+            throw new AppException(AppException.ErrorCode.INVALID_INPUT, "Notification message is required");
+        }
+
+        Notification notification = new Notification();
+        notification.setEmployeeId(employeeId);
+        notification.setTitle(title);
+        notification.setMessage(message);
+        Notification.NotificationType finalType = Notification.NotificationType.SYSTEM;
+
+        if (type != null) {
+            try {
+                finalType = Notification.NotificationType.valueOf(type.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                finalType = Notification.NotificationType.SYSTEM;
+            }
+        }
+        notification.setNotificationType(finalType);
+
+        notification.setRead(false);
+        notification.setCreatedAt(LocalDateTime.now());
+        return notification;
+    }
+
+//   Inbox view of a broadcast  ||  no notification row exists, so it carries the announcement id as related id
+
+    private Notification asNotification(Announcement a, int employeeId, int watermark) {
+        Notification n = new Notification(employeeId, a.getTitle(), a.getContent(),
+                Notification.NotificationType.ANNOUNCEMENT, a.getAnnouncementId());
+        n.setNotificationId(0);
+        n.setRead(a.getAnnouncementId() <= watermark);
+        n.setCreatedAt(a.getCreatedAt());
+        return n;
+    }
+
+    private void markAnnouncementsRead(int employeeId, List<Announcement> seen) throws SQLException {
+        int newest = 0;
+        for (Announcement a : seen) newest = Math.max(newest, a.getAnnouncementId());
+        if (newest > 0) announcementDAO.advanceReadWatermark(employeeId, newest);
+    }
+
+
     private void logAudit(String action, String entity, Integer recordId, String description) {
         try {
             AuditLog log = new AuditLog();
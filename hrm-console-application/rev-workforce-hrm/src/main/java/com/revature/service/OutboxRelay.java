@@ -0,0 +1,209 @@
+package com.revature.service;
+
+import com.revature.dao.AuditLogDAO;
+import com.revature.dao.AuditLogDAOImpl;
+import com.revature.dao.NotificationDAO;
+import com.revature.dao.NotificationDAOImpl;
+import com.revature.dao.OutboxDAO;
+import com.revature.dao.OutboxDAOImpl;
+import com.revature.model.AuditLog;
+import com.revature.model.Notification;
+import com.revature.model.OutboxEvent;
+import com.revature.util.DBConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+//   Moves outbox_events rows written by business transactions (leave approvals) into notifications / audit_logs.
+//   Each batch is one transaction : insert the targets, delete the outbox rows, commit. Polls every
+//   outbox.relay.intervalMs and is nudged after each commit that wrote events. A batch that fails is retried row by row
+//   under savepoints; a row that keeps failing is left in place after outbox.relay.maxAttempts with its last error.
+
+public final class OutboxRelay {
+
+    private final OutboxDAO outboxDAO;
+    private final NotificationDAO notificationDAO;
+    private final AuditLogDAO auditLogDAO;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final AtomicBoolean nudged = new AtomicBoolean();
+    private final Object relayLock = new Object();
+    private ScheduledExecutorService scheduler;
+    private boolean failing;
+
+
+//   Counters exposed through getStats()
+
+    private final AtomicLong relayed = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    private OutboxRelay() {
+        this.outboxDAO = new OutboxDAOImpl();
+        this.notificationDAO = new NotificationDAOImpl();
+        this.auditLogDAO = new AuditLogDAOImpl();
+        this.batchSize = Math.max(1, DBConnection.getIntProperty("outbox.relay.batchSize", 200));
+        this.maxAttempts = Math.max(1, DBConnection.getIntProperty("outbox.relay.maxAttempts", 10));
+    }
+
+    public static OutboxRelay get() {
+        return Holder.INSTANCE;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) return;
+        long intervalMs = Math.max(100, DBConnection.getIntProperty("outbox.relay.intervalMs", 1000));
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "hrm-outbox-relay");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleWithFixedDelay(this::runOnce, 0, intervalMs, TimeUnit.MILLISECONDS);
+        try {
+            int stuck = outboxDAO.countStuck(maxAttempts);
+            if (stuck > 0) {
+                System.err.println("Outbox has " + stuck + " event(s) past " + maxAttempts + " attempts, see outbox_events.last_error");
+            }
+        } catch (SQLException e) {
+            System.err.println("Outbox check failed : " + e.getMessage());
+        }
+    }
+
+
+//   After a commit that wrote events  ||  drains now instead of at the next poll; extra nudges collapse into one run
+
+    public synchronized void nudge() {
+        if (scheduler == null || !nudged.compareAndSet(false, true)) return;
+        scheduler.execute(() -> {
+            nudged.set(false);
+            runOnce();
+        });
+    }
+
+    public void runOnce() {
+        synchronized (relayLock) {
+            try {
+                int moved;
+                do {
+                    moved = relayBatch();
+                } while (moved == batchSize);
+                if (failing) System.err.println("Outbox relay recovered");
+                failing = false;
+            } catch (SQLException | RuntimeException e) {
+                if (!failing) System.err.println("Outbox relay failed, retrying : " + e.getMessage());
+                failing = true;
+            }
+        }
+    }
+
+
+//   Stop polling, then one last drain on the caller so committed events are not left behind until the next start
+
+    public void stop() {
+        ScheduledExecutorService s;
+        synchronized (this) {
+            s = scheduler;
+            scheduler = null;
+        }
+        if (s == null) return;
+        s.shutdown();
+        try {
+            s.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        runOnce();
+    }
+
+    private int relayBatch() throws SQLException {
+        try (Connection conn = DBConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                List<OutboxEvent> locked = outboxDAO.lockBatch(conn, batchSize, maxAttempts);
+                if (locked.isEmpty()) {
+                    conn.commit();
+                    return 0;
+                }
+                List<OutboxEvent> events = new ArrayList<>();
+                for (OutboxEvent event : locked) {
+                    if (event.hasPayload()) events.add(event);
+                    else failed(conn, event, event.getLastError());
+                }
+                Savepoint start = conn.setSavepoint();
+                List<OutboxEvent> done;
+                try {
+                    publish(conn, events);
+                    done = events;
+                } catch (SQLException | RuntimeException batchFailure) {
+                    conn.rollback(start);
+                    done = publishEach(conn, events);
+                }
+                outboxDAO.delete(conn, done);
+                conn.commit();
+                batches.incrementAndGet();
+                relayed.addAndGet(done.size());
+                return done.size();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    private List<OutboxEvent> publishEach(Connection conn, List<OutboxEvent> events) throws SQLException {
+        List<OutboxEvent> done = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            Savepoint row = conn.setSavepoint();
+            try {
+                publish(conn, List.of(event));
+                done.add(event);
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback(row);
+                failed(conn, event, e.getMessage());
+            }
+        }
+        return done;
+    }
+
+    private void failed(Connection conn, OutboxEvent event, String error) throws SQLException {
+        outboxDAO.markFailed(conn, event, error);
+        failedRows.incrementAndGet();
+        if (event.getAttempts() >= maxAttempts) {
+            System.err.println("Outbox event " + event.getEventId() + " (" + event.getKind() + ") gave up after "
+                    + event.getAttempts() + " attempts : " + error);
+        }
+    }
+
+    private void publish(Connection conn, List<OutboxEvent> events) throws SQLException {
+        List<Notification> notifications = new ArrayList<>();
+        List<AuditLog> logs = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            if (event.getKind() == OutboxEvent.Kind.NOTIFICATION) notifications.add(event.getNotification());
+            else logs.add(event.getAuditLog());
+        }
+        notificationDAO.createAll(conn, notifications);
+        auditLogDAO.logAll(conn, logs);
+    }
+
+    public long getRelayed() { return relayed.get(); }
+    public long getFailedRows() { return failedRows.get(); }
+
+    public String getStats() {
+        return String.format("[relayed=%d, batches=%d, failedRows=%d]", getRelayed(), batches.get(), getFailedRows());
+    }
+
+    private static final class Holder {
+        private static final OutboxRelay INSTANCE = new OutboxRelay();
+    }
+}
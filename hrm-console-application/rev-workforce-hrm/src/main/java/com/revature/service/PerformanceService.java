@@ -73,7 +73,7 @@ public class PerformanceService {
             }
 
             if (currentUser.getManagerId() != null) {
-                notificationService.sendNotification(currentUser.getManagerId(),
+                notificationService.queueNotification(currentUser.getManagerId(),
                         "Self-Assessment Submitted",
                         currentUser.getFirstName() + " " + currentUser.getLastName() +
                                 " has submitted their self-assessment.",
@@ -167,7 +167,7 @@ public class PerformanceService {
             Goal created = goal;
 
             if (goal.getEmployeeId() != currentUser.getEmployeeId()) {
-                notificationService.sendNotification(goal.getEmployeeId(),
+                notificationService.queueNotification(goal.getEmployeeId(),
                         "New Goal Assigned", "Title : " + goal.getTitle(), "PERFORMANCE");
             }
 
@@ -290,7 +290,7 @@ public class PerformanceService {
             boolean success = reviewDAO.updateReview(review);
             if (!success) throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Update failed");
 
-            notificationService.sendNotification(review.getEmployeeId(),
+            notificationService.queueNotification(review.getEmployeeId(),
                     "Performance Review Completed",
                     "Your manager has completed your review. Final Rating : " + review.getFinalRating(),
                     "PERFORMANCE");
@@ -314,27 +314,12 @@ public class PerformanceService {
 
         try {
             int currentYear = LocalDate.now().getYear();
-            List<PerformanceReview> allReviews = reviewDAO.findAllByYear(currentYear);
 
             if (authService.isAdmin()) {
-                return allReviews.stream()
-                        .filter(r -> r.getStatus() == PerformanceReview.ReviewStatus.SUBMITTED)
-                        .toList();
+                return reviewDAO.findByYearAndStatus(currentYear, PerformanceReview.ReviewStatus.SUBMITTED);
             } else {
                 int managerId = authService.getLoggedInUser().getEmployeeId();
-
-                return allReviews.stream()
-                        .filter(r -> r.getStatus() == PerformanceReview.ReviewStatus.SUBMITTED)
-                        .filter(r -> {
-                            try {
-                                return employeeDAO.findById(r.getEmployeeId())
-                                        .map(emp -> emp.getManagerId() != null && emp.getManagerId() == managerId)
-                                        .orElse(false);
-                            } catch (SQLException e) {
-                                return false;
-                            }
-                        })
-                        .toList();
+                return reviewDAO.findByManagerAndStatus(managerId, currentYear, PerformanceReview.ReviewStatus.SUBMITTED);
             }
         } catch (Exception e) {
             throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Failed to fetch pending reviews : " + e.getMessage());
@@ -397,51 +382,40 @@ public class PerformanceService {
     // ==================== ADMIN FUNCTIONS ====================
 
 
-    public void initiateReviewCycle(int year, String period) throws AppException {
+//   Set-based  ||  one INSERT ... SELECT for the reviews and one for the notifications, committed together.
+//   Returns the number of reviews created; employees who already have a review for the period are skipped.
+
+    public int initiateReviewCycle(int year, String period) throws AppException {
         if (!authService.isAdmin()) {
             throw new AppException(AppException.ErrorCode.UNAUTHORIZED, "Only Admin can initiate review cycles");
         }
 
+        Connection conn = null;
         try {
-            List<Employee> employees = employeeDAO.findAll().stream()
-                    .filter(Employee::isActive)
-                    .toList();
+            long start = System.currentTimeMillis();
+            conn = DBConnection.getConnection();
+            conn.setAutoCommit(false);
 
-            if (employees.isEmpty()) {
-                throw new AppException(AppException.ErrorCode.INVALID_INPUT, "No active employees found");
-            }
+            int watermark = reviewDAO.findMaxReviewId(conn);
+            int created = reviewDAO.createCycleReviews(conn, year, period);
+            int notified = created == 0 ? 0 : notificationService.sendReviewCycleNotifications(conn, year, period, watermark,
+                    "Performance Review Cycle Started",
+                    "A new review cycle initiated for " + period + " " + year);
 
-            int created = 0;
-            for (Employee employee : employees) {
-                boolean exists = reviewDAO.findByEmployeeAndYear(employee.getEmployeeId(), year)
-                        .stream()
-                        .anyMatch(r -> period.equalsIgnoreCase(r.getReviewPeriod()));
-
-                if (!exists) {
-                    PerformanceReview review = new PerformanceReview();
-                    review.setEmployeeId(employee.getEmployeeId());
-                    review.setReviewYear(year);
-                    review.setReviewPeriod(period);
-                    review.setStatus(PerformanceReview.ReviewStatus.PENDING);
-                    review.setCreatedAt(LocalDateTime.now());
-
-                    reviewDAO.createReview(review);
-                    created++;
-
-                    try {
-                        notificationService.sendNotification(employee.getEmployeeId(),
-                                "Performance Review Cycle Started",
-                                "A new review cycle initiated for " + period + " " + year,
-                                "PERFORMANCE");
-                    } catch (Exception ignored) {}
-                }
-            }
+            conn.commit();
 
             logAudit("INSERT", "PERFORMANCE", 0, "SYSTEM",
-                    "Review cycle initiated for " + period + " " + year + ". Created " + created + " reviews.");
+                    "Review cycle initiated for " + period + " " + year + ". Created " + created + " reviews, "
+                            + notified + " notifications in " + (System.currentTimeMillis() - start) + "ms.");
+            return created;
 
         } catch (Exception e) {
+            rollback(conn);
+            if (e instanceof AppException) throw (AppException) e;
             throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Review creation failed: " + e.getMessage());
+        } finally {
+            resetAutoCommit(conn);
+            if (conn != null) try { conn.close(); } catch (SQLException ignored) {}
         }
     }
 
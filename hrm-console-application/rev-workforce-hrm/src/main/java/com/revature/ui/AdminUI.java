@@ -4,6 +4,7 @@ import com.revature.exception.AppException;
 import com.revature.model.*;
 import com.revature.service.*;
 import com.revature.util.ConsoleUtil;
+import com.revature.util.Constants;
 import com.revature.model.Employee.Role;
 
 
@@ -223,16 +224,22 @@ public class AdminUI {
         ConsoleUtil.printSubHeader("All Employees");
 
         try {
-            List<Employee> employees = employeeService.getAllEmployees();
+            PageRequest request = PageRequest.first(Constants.DEFAULT_PAGE_SIZE);
+            int shown = 0;
+
+            while (true) {
+                Page<Employee> page = employeeService.getEmployeesPage(request);
+
+                if (page.isEmpty() && shown == 0) {
+                    ConsoleUtil.printInfo("No employees found.");
+                    break;
+                }
 
-            if (employees.isEmpty()) {
-                ConsoleUtil.printInfo("No employees found.");
-            } else {
                 System.out.printf("%-5s %-20s %-25s %-12s %-10s%n",
                         "ID", "Name", "Email", "Role", "Status");
                 ConsoleUtil.printLine();
 
-                for (Employee emp : employees) {
+                for (Employee emp : page.getItems()) {
                     System.out.printf("%-5d %-20s %-25s %-12s %-10s%n",
                             emp.getEmployeeId(),
                             emp.getFirstName() + " " + emp.getLastName(),
@@ -240,8 +247,13 @@ public class AdminUI {
                             emp.getRole(),
                             ConsoleUtil.formatStatus(emp.isActive() ? "ACTIVE" : "INACTIVE"));
                 }
+                shown += page.size();
 
-                ConsoleUtil.printInfo("Total: " + employees.size() + " employee(s)");
+                if (!page.hasNext() || !ConsoleUtil.confirm("Show next page?")) {
+                    ConsoleUtil.printInfo("Shown: " + shown + " employee(s)" + (page.hasNext() ? " (more available)" : ""));
+                    break;
+                }
+                request = page.getNext();
             }
         } catch (AppException e) {
             ConsoleUtil.printError(e.getMessage());
@@ -421,8 +433,13 @@ public class AdminUI {
         ConsoleUtil.printSubHeader("All Leave Requests");
 
         try {
-            List<LeaveRequest> requests = leaveService.getTeamLeaveRequests();
-            displayLeaveRequests(requests);
+            PageRequest request = PageRequest.first(Constants.DEFAULT_PAGE_SIZE);
+            while (true) {
+                Page<LeaveRequest> page = leaveService.getTeamLeaveRequestsPage(request);
+                displayLeaveRequests(page.getItems());
+                if (!page.hasNext() || !ConsoleUtil.confirm("Show next page?")) break;
+                request = page.getNext();
+            }
         } catch (AppException e) {
             ConsoleUtil.printError(e.getMessage());
         }
@@ -580,8 +597,12 @@ public class AdminUI {
             String period = periodChoice == 1 ? "H1" : "H2";
 
             if (ConsoleUtil.confirm("Initiate review cycle for " + period + " " + year + "?")) {
-                performanceService.initiateReviewCycle(year, period);
-                ConsoleUtil.printSuccess("Review cycle initiated successfully!");
+                int created = performanceService.initiateReviewCycle(year, period);
+                if (created > 0) {
+                    ConsoleUtil.printSuccess("Review cycle initiated successfully! " + created + " review(s) created.");
+                } else {
+                    ConsoleUtil.printInfo("No new reviews created. The cycle is already open for every active employee.");
+                }
             }
         } catch (AppException e) {
             ConsoleUtil.printError(e.getMessage());
@@ -748,14 +769,19 @@ public class AdminUI {
         ConsoleUtil.printSubHeader("All Announcements");
 
         try {
-            List<Announcement> announcements = notificationService.getAllAnnouncements();
-
-            for (Announcement ann : announcements) {
-                System.out.println("[" + (ann.isActive() ? "ACTIVE" : "INACTIVE") + "] " +
-                        ann.getTitle());
-                System.out.println("  " + ann.getContent());
-                System.out.println("  Created : " + ann.getCreatedAt());
-                ConsoleUtil.printLine();
+            PageRequest request = PageRequest.first(Constants.DEFAULT_PAGE_SIZE);
+            while (true) {
+                Page<Announcement> page = notificationService.getAnnouncementsPage(request);
+
+                for (Announcement ann : page.getItems()) {
+                    System.out.println("[" + (ann.isActive() ? "ACTIVE" : "INACTIVE") + "] " +
+                            ann.getTitle());
+                    System.out.println("  " + ann.getContent());
+                    System.out.println("  Created : " + ann.getCreatedAt());
+                    ConsoleUtil.printLine();
+                }
+                if (!page.hasNext() || !ConsoleUtil.confirm("Show next page?")) break;
+                request = page.getNext();
             }
         } catch (AppException e) {
             ConsoleUtil.printError(e.getMessage());
@@ -794,6 +820,11 @@ public class AdminUI {
     private void viewAuditLogs() {
         ConsoleUtil.printSubHeader("Audit Logs");
 
+        if (ConsoleUtil.confirm("Filter by employee, record, action or dates?")) {
+            searchAuditLogs();
+            return;
+        }
+
         try {
             int limit = ConsoleUtil.readIntInRange("Number of records to show", 10, 100);
             List<AuditLog> logs = notificationService.getAuditLogs(limit);
@@ -817,6 +848,63 @@ public class AdminUI {
         ConsoleUtil.pressEnterToContinue();
     }
 
+    private void searchAuditLogs() {
+        AuditLogFilter filter = new AuditLogFilter();
+
+        try {
+            String employeeId = ConsoleUtil.readOptionalString("Employee ID");
+            if (employeeId != null) filter.setEmployeeId(Integer.parseInt(employeeId));
+
+            String entity = ConsoleUtil.readOptionalString("Entity type (EMPLOYEE, LEAVE_REQUEST, ...)");
+            if (entity != null) filter.setEntityType(AuditLog.EntityType.valueOf(entity.toUpperCase()));
+
+            String entityId = ConsoleUtil.readOptionalString("Entity ID");
+            if (entityId != null) filter.setEntityId(Integer.parseInt(entityId));
+
+            String action = ConsoleUtil.readOptionalString("Action (CREATE, UPDATE, LOGIN, ...)");
+            if (action != null) filter.setActionType(AuditLog.ActionType.valueOf(action.toUpperCase()));
+
+            if (ConsoleUtil.confirm("Limit to a date range?")) {
+                filter.setFrom(ConsoleUtil.readDate("From").atStartOfDay());
+                filter.setTo(ConsoleUtil.readDate("To").plusDays(1).atStartOfDay());
+            }
+        } catch (IllegalArgumentException e) {
+            ConsoleUtil.printError("Invalid filter value : " + e.getMessage());
+            ConsoleUtil.pressEnterToContinue();
+            return;
+        }
+
+        try {
+            PageRequest request = PageRequest.first(Constants.DEFAULT_PAGE_SIZE);
+            while (true) {
+                Page<AuditLog> page = notificationService.searchAuditLogs(filter, request);
+                if (page.isEmpty() && request.isFirst()) {
+                    ConsoleUtil.printInfo("No audit entries match.");
+                    break;
+                }
+
+                System.out.printf("%-20s %-20s %-15s %-8s %-10s %-30s%n", "Timestamp", "Employee", "Entity", "ID", "Action", "Description");
+                ConsoleUtil.printLine();
+                for (AuditLog log : page.getItems()) {
+                    String desc = log.getNewValue() == null ? "" : log.getNewValue();
+                    System.out.printf("%-20s %-20s %-15s %-8s %-10s %-30s%n",
+                            log.getChangedAt().toString().replace('T', ' ').substring(0, 16),
+                            log.getEmployeeName() != null ? log.getEmployeeName() : "-",
+                            log.getTableName(),
+                            log.getEntityId() != null ? log.getEntityId() : "-",
+                            log.getAction(),
+                            desc.length() > 30 ? desc.substring(0, 27) + "..." : desc);
+                }
+                if (!page.hasNext() || !ConsoleUtil.confirm("Show next page?")) break;
+                request = page.getNext();
+            }
+        } catch (AppException e) {
+            ConsoleUtil.printError(e.getMessage());
+        }
+
+        ConsoleUtil.pressEnterToContinue();
+    }
+
     //   SYSTEM ADMIN
 
     private void systemAdminMenu() {
@@ -641,23 +641,6 @@ public class EmployeeUI {
                 }
             }
 
-
-            //   Show recent announcements
-
-            System.out.println("\n--- Company Announcements ---\n");
-            List<Announcement> announcements = notificationService.getRecentAnnouncements(5);
-
-            if (announcements.isEmpty()) {
-                ConsoleUtil.printInfo("No recent announcements.");
-            } else {
-                for (Announcement ann : announcements) {
-                    System.out.println(ConsoleUtil.BOLD + ann.getTitle() + ConsoleUtil.RESET);
-                    System.out.println("  " + ann.getContent());
-                    System.out.println("  Posted : " + ann.getCreatedAt());
-                    ConsoleUtil.printLine();
-                }
-            }
-
         } catch (AppException e) {
             ConsoleUtil.printError(e.getMessage());
         }
@@ -4,6 +4,7 @@ import com.revature.exception.AppException;
 import com.revature.model.*;
 import com.revature.service.*;
 import com.revature.util.ConsoleUtil;
+import com.revature.util.Constants;
 
 import java.util.List;
 
@@ -94,16 +95,20 @@ public class ManagerUI {
             String[] options = {
                 "View My Team",
                 "View Team Member Details",
-                "View Team Leave Balances"
+                "View Team Leave Balances",
+                "View Full Reporting Tree",
+                "View Sub-Team Summary"
             };
             
             ConsoleUtil.printMenu(options);
-            int choice = ConsoleUtil.readMenuChoice(3);
+            int choice = ConsoleUtil.readMenuChoice(5);
             
             switch (choice) {
                 case 1: viewTeam(); break;
                 case 2: viewTeamMemberDetails(); break;
                 case 3: viewTeamLeaveBalances(); break;
+                case 4: viewReportingTree(); break;
+                case 5: viewSubTeamSummary(); break;
                 case 0: return;
             }
         }
@@ -138,6 +143,57 @@ public class ManagerUI {
         ConsoleUtil.pressEnterToContinue();
     }
     
+    private void viewReportingTree() {
+        ConsoleUtil.printSubHeader("Full Reporting Tree");
+
+        try {
+            List<ReportingNode> tree = employeeService.getReportingTree();
+
+            if (tree.isEmpty()) {
+                ConsoleUtil.printInfo("No one reports to you.");
+            } else {
+                for (ReportingNode node : tree) {
+                    Employee emp = node.getEmployee();
+                    System.out.printf("%s%-5d %-25s (%d below)%n",
+                            "    ".repeat(node.getLevel() - 1),
+                            emp.getEmployeeId(),
+                            emp.getFirstName() + " " + emp.getLastName(),
+                            node.getBelow());
+                }
+
+                ConsoleUtil.printInfo("Total in reporting line: " + tree.size());
+            }
+        } catch (AppException e) {
+            ConsoleUtil.printError(e.getMessage());
+        }
+
+        ConsoleUtil.pressEnterToContinue();
+    }
+    
+    private void viewSubTeamSummary() {
+        ConsoleUtil.printSubHeader("Sub-Team Summary");
+
+        try {
+            List<TeamSummary> summaries = employeeService.getTeamSummaries();
+
+            if (summaries.isEmpty()) {
+                ConsoleUtil.printInfo("No one reports to you.");
+            } else {
+                System.out.printf("%-5s %-25s %-10s %-8s %-15s%n", "ID", "Lead", "People", "Levels", "Payroll");
+                ConsoleUtil.printLine();
+
+                for (TeamSummary s : summaries) {
+                    System.out.printf("%-5d %-25s %-10d %-8d %-15s%n",
+                            s.getLeadId(), s.getLeadName(), s.getHeadcount(), s.getDepth(), s.getTotalSalary());
+                }
+            }
+        } catch (AppException e) {
+            ConsoleUtil.printError(e.getMessage());
+        }
+
+        ConsoleUtil.pressEnterToContinue();
+    }
+    
     private void viewTeamMemberDetails() {
         ConsoleUtil.printSubHeader("Team Member Details");
         
@@ -147,6 +203,16 @@ public class ManagerUI {
             Employee employee = employeeService.getEmployeeById(employeeId);
             printEmployeeDetails(employee);
 
+            List<Employee> chain = employeeService.getManagementChain(employeeId);
+            if (!chain.isEmpty()) {
+                StringBuilder line = new StringBuilder();
+                for (Employee m : chain) {
+                    if (line.length() > 0) line.append(" > ");
+                    line.append(m.getFirstName()).append(" ").append(m.getLastName());
+                }
+                System.out.println("Reporting Line : " + line);
+            }
+
             System.out.println("\nLeave Balances:");
             List<LeaveBalance> balances = leaveService.getLeaveBalances(employeeId);
             for (LeaveBalance balance : balances) {
@@ -232,8 +298,13 @@ public class ManagerUI {
         ConsoleUtil.printSubHeader("All Team Leave Requests");
         
         try {
-            List<LeaveRequest> requests = leaveService.getTeamLeaveRequests();
-            displayLeaveRequests(requests);
+            PageRequest request = PageRequest.first(Constants.DEFAULT_PAGE_SIZE);
+            while (true) {
+                Page<LeaveRequest> page = leaveService.getTeamLeaveRequestsPage(request);
+                displayLeaveRequests(page.getItems());
+                if (!page.hasNext() || !ConsoleUtil.confirm("Show next page?")) break;
+                request = page.getNext();
+            }
         } catch (AppException e) {
             ConsoleUtil.printError(e.getMessage());
         }
@@ -830,14 +901,6 @@ public class ManagerUI {
                     notificationService.markAllAsRead();
                 }
             }
-
-            System.out.println("\n--- Recent Announcements ---\n");
-            List<Announcement> announcements = notificationService.getRecentAnnouncements(5);
-            for (Announcement ann : announcements) {
-                System.out.println(ann.getTitle());
-                System.out.println("  " + ann.getContent());
-                ConsoleUtil.printLine();
-            }
             
         } catch (AppException e) {
             ConsoleUtil.printError(e.getMessage());
@@ -1,5 +1,6 @@
 package com.revature.ui;
 
+import com.revature.model.Employee;
 import com.revature.model.Notification;
 import com.revature.model.Announcement;
 import com.revature.service.NotificationService;
@@ -43,6 +44,7 @@ public class NotificationUI {
 
             if ("ADMIN".equalsIgnoreCase(role)) {
                 System.out.println("4. Post New Announcement (Admin Only)");
+                System.out.println("5. Notify a Group (Admin Only)");
             }
 
             System.out.println("0. Back to Main Menu");
@@ -64,6 +66,13 @@ public class NotificationUI {
                             System.out.println("Invalid choice!");
                         }
                     }
+                    case "5" -> {
+                        if ("ADMIN".equalsIgnoreCase(role)) {
+                            notifyGroup();
+                        } else {
+                            System.out.println("Invalid choice!");
+                        }
+                    }
                     case "0" -> back = true;
                     default -> System.out.println("Invalid choice!");
                 }
@@ -83,6 +92,49 @@ public class NotificationUI {
         System.out.println("Announcement posted successfully to all employees!");
     }
 
+    private void notifyGroup() throws AppException {
+        System.out.print("Send to (1) Everyone (2) A role (3) A department : ");
+        String audience = scanner.nextLine().trim();
+        System.out.print("Enter Title : ");
+        String title = scanner.nextLine();
+        System.out.print("Enter Message : ");
+        String message = scanner.nextLine();
+
+        int sent;
+        switch (audience) {
+            case "1" -> {
+                notificationService.sendToAll(title, message, null);
+                System.out.println("Notification posted to every employee's inbox.");
+                return;
+            }
+            case "2" -> {
+                System.out.print("Role (ADMIN / MANAGER / EMPLOYEE) : ");
+                try {
+                    Employee.Role r = Employee.Role.valueOf(scanner.nextLine().trim().toUpperCase());
+                    sent = notificationService.sendToRole(r, title, message, Notification.NotificationType.SYSTEM);
+                } catch (IllegalArgumentException e) {
+                    System.out.println("Unknown role!");
+                    return;
+                }
+            }
+            case "3" -> {
+                System.out.print("Department ID : ");
+                try {
+                    int departmentId = Integer.parseInt(scanner.nextLine().trim());
+                    sent = notificationService.sendToDepartment(departmentId, title, message, Notification.NotificationType.SYSTEM);
+                } catch (NumberFormatException e) {
+                    System.out.println("Invalid department ID!");
+                    return;
+                }
+            }
+            default -> {
+                System.out.println("Invalid choice!");
+                return;
+            }
+        }
+        System.out.println("Notification sent to " + sent + " employee(s).");
+    }
+
     private void viewNotifications() throws AppException {
         List<Notification> notifications = notificationService.getMyNotifications();
         if (notifications.isEmpty()) {
@@ -95,8 +147,9 @@ public class NotificationUI {
         System.out.println("-".repeat(80));
         for (Notification n : notifications) {
             String status = n.isRead() ? "" : "[NEW] ";
-            System.out.printf("%-5d | %-10s | %-40s | %-20s%n",
-                    n.getNotificationId(), n.getNotificationType(), status + n.getMessage(), n.getCreatedAt());
+            String id = n.getNotificationId() > 0 ? String.valueOf(n.getNotificationId()) : "-";
+            System.out.printf("%-5s | %-10s | %-40s | %-20s%n",
+                    id, n.getNotificationType(), status + n.getMessage(), n.getCreatedAt());
         }
     }
 
@@ -114,6 +167,7 @@ public class NotificationUI {
             System.out.println("POSTED : " + a.getCreatedAt());
             System.out.println("-".repeat(30));
         }
+        notificationService.markAnnouncementsRead(announcements);
     }
 }
 
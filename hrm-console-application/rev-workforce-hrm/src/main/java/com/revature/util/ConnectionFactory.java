@@ -1,25 +1,15 @@
 package com.revature.util;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 public class ConnectionFactory {
     private static ConnectionFactory instance;
 
 
-//   Database Credentials
-
-    private final String url = "jdbc:mysql://localhost:3306/hrm_console";
-    private final String user = "root";
-    private final String password = "Scar2511@#";
+//   Kept for existing callers  ||  connections come from DBConnection's configured ConnectionProvider
 
     private ConnectionFactory() {
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-        } catch (ClassNotFoundException e) {
-            e.printStackTrace();
-        }
     }
 
 
@@ -37,11 +27,10 @@ public class ConnectionFactory {
 
     public Connection getConnection() throws SQLException {
         try {
-            return DriverManager.getConnection(url, user, password);
+            return DBConnection.getConnection();
         } catch (SQLException e) {
             System.out.println("DB Connection Failed..!! Reason : " + e.getMessage());
             throw e;
         }
     }
 }
-
@@ -0,0 +1,426 @@
+package com.revature.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+//   Bounded JDBC connection pool behind PooledConnectionProvider.
+//   Callers keep using try-with-resources : close() on a borrowed connection returns it to the pool.
+
+public class ConnectionPool {
+
+    private static final long MAX_POLL_SLICE_MS = 250;
+
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private final int maxSize;
+    private final int minIdle;
+    private final long connectionTimeout;
+    private final long idleTimeout;
+    private final long leakDetectionThreshold;
+    private final int validationTimeoutSeconds;
+    private final boolean validateOnBorrow;
+    private final int statementCacheSize;
+
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> borrowed = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean shutdown;
+
+
+//   Counters exposed through getStats()
+
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong validationFailureCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final StatementCache.Counters statementCounters = new StatementCache.Counters();
+
+    public ConnectionPool(Properties props) {
+        this.url = props.getProperty("db.url", "jdbc:mysql://localhost:3306/hrm_console");
+        this.username = props.getProperty("db.username", "root");
+        this.password = props.getProperty("db.password", "Scar2511@#");
+        this.maxSize = Math.max(1, intProp(props, "db.pool.maxSize", 10));
+        this.minIdle = Math.min(maxSize, Math.max(0, intProp(props, "db.pool.minIdle", 2)));
+        this.connectionTimeout = longProp(props, "db.pool.connectionTimeout", 30000);
+        this.idleTimeout = longProp(props, "db.pool.idleTimeout", 600000);
+        this.leakDetectionThreshold = longProp(props, "db.pool.leakDetectionThreshold", 0);
+        long validationTimeoutMs = longProp(props, "db.pool.validationTimeout", 3000);
+        this.validationTimeoutSeconds = (int) Math.max(1, (validationTimeoutMs + 999) / 1000);
+        this.validateOnBorrow = Boolean.parseBoolean(props.getProperty("db.pool.validateOnBorrow", "true"));
+        this.statementCacheSize = StatementCache.sizeFrom(props);
+        long housekeepingInterval = longProp(props, "db.pool.housekeepingInterval", 30000);
+
+        String driver = props.getProperty("db.driver", "com.mysql.cj.jdbc.Driver");
+        try {
+            Class.forName(driver);
+        } catch (ClassNotFoundException e) {
+            System.err.println("Driver not found : " + e.getMessage());
+        }
+
+        fillMinIdle();
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "hrm-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep, housekeepingInterval, housekeepingInterval, TimeUnit.MILLISECONDS);
+    }
+
+
+//   Borrow a connection  ||  waits up to db.pool.connectionTimeout when the pool is exhausted
+
+    public Connection getConnection() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection pool has been shut down");
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(connectionTimeout);
+
+        while (true) {
+            PooledConnection pc = idle.pollFirst();
+
+            if (pc == null && reserveSlot()) {
+                try {
+                    pc = createPhysical();
+                } catch (SQLException e) {
+                    totalConnections.decrementAndGet();
+                    throw e;
+                }
+                return lend(pc, start);
+            }
+
+            if (pc == null) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    timeoutCount.incrementAndGet();
+                    throw new SQLTimeoutException("Timed out after " + connectionTimeout
+                            + "ms waiting for a connection " + getStats());
+                }
+                try {
+                    pc = idle.pollFirst(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(MAX_POLL_SLICE_MS)), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted while waiting for a connection", e);
+                }
+                if (pc == null) continue;
+            }
+
+            if (!validateOnBorrow || isAlive(pc)) {
+                return lend(pc, start);
+            }
+            validationFailureCount.incrementAndGet();
+            discard(pc);
+        }
+    }
+
+    public PoolStats getStats() {
+        return new PoolStats(totalConnections.get(), idle.size(), borrowed.size(), maxSize,
+                createdCount.get(), borrowCount.get(), timeoutCount.get(),
+                validationFailureCount.get(), evictedCount.get(), leakCount.get(),
+                borrowCount.get() == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.get()) / borrowCount.get(),
+                statementCounters);
+    }
+
+    public synchronized void shutdown() {
+        if (shutdown) return;
+        shutdown = true;
+        housekeeper.shutdownNow();
+        PooledConnection pc;
+        while ((pc = idle.pollFirst()) != null) {
+            discard(pc);
+        }
+        if (!borrowed.isEmpty()) {
+            System.err.println("Connection pool shut down with " + borrowed.size() + " connection(s) still borrowed");
+        }
+    }
+
+
+    // ==================== INTERNALS ====================
+
+
+    private boolean reserveSlot() {
+        while (true) {
+            int current = totalConnections.get();
+            if (current >= maxSize) return false;
+            if (totalConnections.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    private PooledConnection createPhysical() throws SQLException {
+        Connection physical = DriverManager.getConnection(url, username, password);
+        createdCount.incrementAndGet();
+        return new PooledConnection(physical);
+    }
+
+    private Connection lend(PooledConnection pc, long waitStart) {
+        pc.borrowedAt = System.currentTimeMillis();
+        pc.borrowStack = leakDetectionThreshold > 0 ? new Exception("Connection borrowed here") : null;
+        pc.leakReported = false;
+        borrowed.add(pc);
+        borrowCount.incrementAndGet();
+        totalWaitNanos.addAndGet(System.nanoTime() - waitStart);
+        return pc.newHandle();
+    }
+
+    private void release(PooledConnection pc) {
+        borrowed.remove(pc);
+        try {
+            if (pc.physical.isClosed()) {
+                discard(pc);
+                return;
+            }
+            if (!pc.physical.getAutoCommit()) {
+                pc.physical.rollback();
+                pc.physical.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            discard(pc);
+            return;
+        }
+
+        if (pc.leakReported) {
+            System.err.println("Previously reported leaked connection returned after "
+                    + (System.currentTimeMillis() - pc.borrowedAt) + "ms");
+        }
+        if (pc.statements != null) pc.statements.reset();
+        pc.lastUsedAt = System.currentTimeMillis();
+        pc.borrowStack = null;
+
+        if (shutdown) {
+            discard(pc);
+        } else {
+            idle.offerFirst(pc);
+        }
+    }
+
+    private boolean isAlive(PooledConnection pc) {
+        try {
+            return pc.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void discard(PooledConnection pc) {
+        totalConnections.decrementAndGet();
+        if (pc.statements != null) pc.statements.closeAll();
+        try {
+            pc.physical.close();
+        } catch (SQLException ignored) {}
+    }
+
+    private synchronized void fillMinIdle() {
+        while (!shutdown && idle.size() < minIdle && reserveSlot()) {
+            try {
+                PooledConnection pc = createPhysical();
+                pc.lastUsedAt = System.currentTimeMillis();
+                idle.offerLast(pc);
+            } catch (SQLException e) {
+                totalConnections.decrementAndGet();
+                System.err.println("Pool warm-up failed : " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+
+//   Periodic task  ||  evicts idle connections above minIdle, tops up to minIdle, reports leaks
+
+    private void housekeep() {
+        try {
+            long now = System.currentTimeMillis();
+
+            if (idleTimeout > 0) {
+                for (PooledConnection pc : idle) {
+                    if (totalConnections.get() <= minIdle) break;
+                    if (now - pc.lastUsedAt > idleTimeout && idle.remove(pc)) {
+                        evictedCount.incrementAndGet();
+                        discard(pc);
+                    }
+                }
+            }
+
+            fillMinIdle();
+
+            if (leakDetectionThreshold > 0) {
+                for (PooledConnection pc : borrowed) {
+                    if (!pc.leakReported && now - pc.borrowedAt > leakDetectionThreshold) {
+                        pc.leakReported = true;
+                        leakCount.incrementAndGet();
+                        System.err.println("Possible connection leak : held for " + (now - pc.borrowedAt)
+                                + "ms by thread " + pc.borrowThread);
+                        if (pc.borrowStack != null) pc.borrowStack.printStackTrace();
+                    }
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("Pool housekeeping failed : " + e.getMessage());
+        }
+    }
+
+    private static int intProp(Properties props, String key, int defaultValue) {
+        try {
+            return Integer.parseInt(props.getProperty(key, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static long longProp(Properties props, String key, long defaultValue) {
+        try {
+            return Long.parseLong(props.getProperty(key, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+
+//   One physical connection  ||  every borrow hands out a fresh proxy so a stale handle can't touch it again
+
+    private final class PooledConnection {
+        private final Connection physical;
+        private final StatementCache statements;
+        private volatile long lastUsedAt;
+        private volatile long borrowedAt;
+        private volatile Exception borrowStack;
+        private volatile String borrowThread;
+        private volatile boolean leakReported;
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.statements = statementCacheSize > 0
+                    ? new StatementCache(physical, statementCacheSize, statementCounters) : null;
+        }
+
+        private Connection newHandle() {
+            borrowThread = Thread.currentThread().getName();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new Handle(this));
+        }
+    }
+
+    private final class Handle implements InvocationHandler {
+        private final PooledConnection owner;
+        private boolean closed;
+
+        private Handle(PooledConnection owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release(owner);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || owner.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + owner.physical + "]";
+                default:
+                    break;
+            }
+
+            if (closed) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            if (owner.statements != null && StatementCache.isCacheable(method.getName(), method.getParameterTypes())) {
+                return owner.statements.prepare((Connection) proxy, args);
+            }
+            try {
+                return method.invoke(owner.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+
+//   Snapshot of pool state
+
+    public static final class PoolStats {
+        private final int total;
+        private final int idle;
+        private final int active;
+        private final int maxSize;
+        private final long created;
+        private final long borrowed;
+        private final long timeouts;
+        private final long validationFailures;
+        private final long evicted;
+        private final long leaks;
+        private final long avgWaitMicros;
+        private final StatementCache.Counters statements;
+
+        PoolStats(int total, int idle, int active, int maxSize, long created, long borrowed, long timeouts,
+                  long validationFailures, long evicted, long leaks, long avgWaitMicros,
+                  StatementCache.Counters statements) {
+            this.total = total;
+            this.idle = idle;
+            this.active = active;
+            this.maxSize = maxSize;
+            this.created = created;
+            this.borrowed = borrowed;
+            this.timeouts = timeouts;
+            this.validationFailures = validationFailures;
+            this.evicted = evicted;
+            this.leaks = leaks;
+            this.avgWaitMicros = avgWaitMicros;
+            this.statements = statements;
+        }
+
+        public int getTotal() { return total; }
+        public int getIdle() { return idle; }
+        public int getActive() { return active; }
+        public int getMaxSize() { return maxSize; }
+        public long getCreated() { return created; }
+        public long getBorrowed() { return borrowed; }
+        public long getTimeouts() { return timeouts; }
+        public long getValidationFailures() { return validationFailures; }
+        public long getEvicted() { return evicted; }
+        public long getLeaks() { return leaks; }
+        public long getAvgWaitMicros() { return avgWaitMicros; }
+        public StatementCache.Counters getStatementCache() { return statements; }
+
+        @Override
+        public String toString() {
+            return String.format("[total=%d, idle=%d, active=%d, max=%d, created=%d, borrowed=%d, timeouts=%d, " +
+                            "validationFailures=%d, evicted=%d, leaks=%d, avgWait=%dus] %s",
+                    total, idle, active, maxSize, created, borrowed, timeouts,
+                    validationFailures, evicted, leaks, avgWaitMicros, statements);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.revature.util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+
+//   SPI for obtaining JDBC connections  ||  DBConnection owns the configured instance and every DAO goes through it.
+//   Selected with db.provider = pooled | single | embedded | <fully qualified class name>.
+//   Custom providers need a public constructor taking java.util.Properties.
+
+public interface ConnectionProvider {
+
+    Connection getConnection() throws SQLException;
+
+    String getName();
+
+    default String getStats() {
+        return "";
+    }
+
+    default void shutdown() {
+    }
+
+    static ConnectionProvider create(Properties props) {
+        String type = props.getProperty("db.provider", "pooled").trim();
+
+        switch (type.toLowerCase()) {
+            case "pooled":
+                return new PooledConnectionProvider(props);
+            case "single":
+                return new SingleConnectionProvider(props);
+            case "embedded":
+                return new EmbeddedConnectionProvider(props);
+            default:
+                try {
+                    Class<?> clazz = Class.forName(type);
+                    return (ConnectionProvider) clazz.getConstructor(Properties.class).newInstance(props);
+                } catch (ReflectiveOperationException | ClassCastException e) {
+                    throw new IllegalStateException("Unknown db.provider : " + type, e);
+                }
+        }
+    }
+}
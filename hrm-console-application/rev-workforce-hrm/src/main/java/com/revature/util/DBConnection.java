@@ -1,58 +1,96 @@
 package com.revature.util;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Properties;
-import java.io.InputStream;
-import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class DBConnection {
 
     private static final String PROPERTIES_FILE = "database.properties";
-    private static String URL;
-    private static String USERNAME;
-    private static String PASSWORD;
-    private static String DRIVER;
+
+    private static final Properties properties;
+    private static final ConnectionProvider provider;
+    private static final long slowAcquireThresholdMs;
+
+    private static final AtomicLong acquireCount = new AtomicLong();
+    private static final AtomicLong acquireFailures = new AtomicLong();
+    private static final AtomicLong slowAcquires = new AtomicLong();
+    private static final AtomicLong acquireNanos = new AtomicLong();
 
     private static ThreadLocal<Connection> threadLocalConnection = new ThreadLocal<>();
 
     static {
-        loadProperties();
+        properties = loadProperties();
+        provider = ConnectionProvider.create(properties);
+        slowAcquireThresholdMs = Long.parseLong(properties.getProperty("db.slowAcquireThreshold", "500").trim());
     }
 
-    private static void loadProperties() {
+    private static Properties loadProperties() {
+        Properties props = new Properties();
         try (InputStream input = DBConnection.class.getClassLoader()
                 .getResourceAsStream(PROPERTIES_FILE)) {
-
-            Properties props = new Properties();
-
-            if (input == null) {
-                URL = "jdbc:mysql://localhost:3306/hrm_console";
-                USERNAME = "root";
-                PASSWORD = "Scar2511@#";
-                DRIVER = "com.mysql.cj.jdbc.Driver";
-            } else {
+            if (input != null) {
                 props.load(input);
-                URL = props.getProperty("db.url", "jdbc:mysql://localhost:3306/hrm_console");
-                USERNAME = props.getProperty("db.username", "root");
-                PASSWORD = props.getProperty("db.password", "Scar2511@#");
-                DRIVER = props.getProperty("db.driver", "com.mysql.cj.jdbc.Driver");
             }
-
         } catch (IOException e) {
             System.err.println("Error loading properties : " + e.getMessage());
         }
+        return props;
+    }
+
+
+//   Single entry point for every DAO  ||  timing and failures are recorded here regardless of provider
+
+    public static Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            Connection conn = provider.getConnection();
+            acquireCount.incrementAndGet();
+            return conn;
+        } catch (SQLException e) {
+            acquireFailures.incrementAndGet();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            acquireNanos.addAndGet(elapsed);
+            if (TimeUnit.NANOSECONDS.toMillis(elapsed) > slowAcquireThresholdMs) {
+                slowAcquires.incrementAndGet();
+                System.err.println("Slow connection acquire : " + TimeUnit.NANOSECONDS.toMillis(elapsed)
+                        + "ms via " + provider.getName() + " provider " + provider.getStats());
+            }
+        }
+    }
 
+    public static String getProperty(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+
+    public static int getIntProperty(String key, int defaultValue) {
         try {
-            Class.forName(DRIVER);
-        } catch (ClassNotFoundException e) {
-            System.err.println("Driver not found : " + e.getMessage());
+            return Integer.parseInt(properties.getProperty(key, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
         }
     }
 
-    public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL, USERNAME, PASSWORD);
+    public static ConnectionProvider getProvider() {
+        return provider;
+    }
+
+    public static String getStats() {
+        long count = acquireCount.get();
+        long avgMicros = count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(acquireNanos.get()) / count;
+        return String.format("provider=%s, acquired=%d, failures=%d, slow=%d, avgAcquire=%dus %s",
+                provider.getName(), count, acquireFailures.get(), slowAcquires.get(), avgMicros, provider.getStats());
+    }
+
+    public static void shutdown() {
+        closeTransactionConnection();
+        provider.shutdown();
     }
 
     public static Connection getTransactionConnection() throws SQLException {
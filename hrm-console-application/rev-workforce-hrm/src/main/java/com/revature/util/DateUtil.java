@@ -1,6 +1,9 @@
 package com.revature.util;
 
 
+import com.revature.exception.AppException;
+
+import java.sql.SQLException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -10,6 +13,8 @@ import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 public class DateUtil {
 
@@ -69,43 +74,25 @@ public class DateUtil {
     }
 
     public static int calculateWorkingDays(LocalDate startDate, LocalDate endDate) {
-        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
-            return 0;
-        }
-
-        int workingDays = 0;
-        LocalDate current = startDate;
+        return countWorkingDays(WorkingDayCalendar.weekendsOnly(), startDate, endDate);
+    }
 
-        while (!current.isAfter(endDate)) {
-            DayOfWeek day = current.getDayOfWeek();
-            if (day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY) {
-                workingDays++;
-            }
-            current = current.plusDays(1);
-        }
 
-        return workingDays;
-    }
+//   Caller-supplied holidays  ||  one shared calendar per distinct holiday set, so repeat calls reuse its built years
 
     public static int calculateWorkingDaysExcludingHolidays(LocalDate startDate, LocalDate endDate, List<LocalDate> holidays) {
-        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
-            return 0;
-        }
-
-        int workingDays = 0;
-        LocalDate current = startDate;
+        Set<LocalDate> dates = holidays == null ? new TreeSet<>() : new TreeSet<>(holidays);
+        WorkingDayCalendar calendar = WorkingDayCalendar.shared("holidays:" + dates, WorkingDayCalendar.defaultWeekend(),
+                year -> dates);
+        return countWorkingDays(calendar, startDate, endDate);
+    }
 
-        while (!current.isAfter(endDate)) {
-            DayOfWeek day = current.getDayOfWeek();
-            if (day != DayOfWeek.SATURDAY && day != DayOfWeek.SUNDAY) {
-                if (holidays == null || !holidays.contains(current)) {
-                    workingDays++;
-                }
-            }
-            current = current.plusDays(1);
+    public static int countWorkingDays(WorkingDayCalendar calendar, LocalDate startDate, LocalDate endDate) {
+        try {
+            return calendar.workingDaysBetween(startDate, endDate);
+        } catch (SQLException e) {
+            throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Holiday calendar unavailable : " + e.getMessage(), e);
         }
-
-        return workingDays;
     }
 
     public static int calculateTotalDays(LocalDate startDate, LocalDate endDate) {
@@ -116,11 +103,14 @@ public class DateUtil {
     }
 
     public static boolean isWeekend(LocalDate date) {
+        return isWeekend(date, WorkingDayCalendar.defaultWeekend());
+    }
+
+    public static boolean isWeekend(LocalDate date, Set<DayOfWeek> weekendDays) {
         if (date == null) {
             return false;
         }
-        DayOfWeek day = date.getDayOfWeek();
-        return day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
+        return weekendDays.contains(date.getDayOfWeek());
     }
 
     public static boolean isFutureDate(LocalDate date) {
@@ -0,0 +1,96 @@
+package com.revature.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+//   In-memory database for tests and demos (H2 in MySQL mode by default, driver must be on the classpath).
+//   An anchor connection keeps the database alive; db.embedded.initScript is run once against it.
+
+public class EmbeddedConnectionProvider implements ConnectionProvider {
+
+    private static final String DEFAULT_URL = "jdbc:h2:mem:hrm_console;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final AtomicLong handedOut = new AtomicLong();
+    private Connection anchor;
+
+    public EmbeddedConnectionProvider(Properties props) {
+        this.url = props.getProperty("db.embedded.url", DEFAULT_URL);
+        this.username = props.getProperty("db.embedded.username", "sa");
+        this.password = props.getProperty("db.embedded.password", "");
+
+        String driver = props.getProperty("db.embedded.driver", "org.h2.Driver");
+        try {
+            Class.forName(driver);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Embedded driver not found : " + driver, e);
+        }
+
+        try {
+            this.anchor = DriverManager.getConnection(url, username, password);
+            String script = props.getProperty("db.embedded.initScript");
+            if (script != null && !script.isBlank()) {
+                runScript(script.trim());
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Embedded database start failed : " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        handedOut.incrementAndGet();
+        return DriverManager.getConnection(url, username, password);
+    }
+
+    @Override
+    public String getName() {
+        return "embedded";
+    }
+
+    @Override
+    public String getStats() {
+        return "[url=" + url + ", handedOut=" + handedOut.get() + "]";
+    }
+
+    @Override
+    public void shutdown() {
+        if (anchor != null) {
+            try {
+                anchor.close();
+            } catch (SQLException ignored) {}
+            anchor = null;
+        }
+    }
+
+    private void runScript(String resource) throws SQLException {
+        String sql;
+        try (InputStream in = EmbeddedConnectionProvider.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new SQLException("Init script not found on classpath : " + resource);
+            }
+            sql = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new SQLException("Init script could not be read : " + resource, e);
+        }
+
+        try (Statement stmt = anchor.createStatement()) {
+            for (String part : sql.split(";")) {
+                String trimmed = part.strip();
+                if (!trimmed.isEmpty() && !trimmed.startsWith("--")) {
+                    stmt.execute(trimmed);
+                }
+            }
+        }
+    }
+}
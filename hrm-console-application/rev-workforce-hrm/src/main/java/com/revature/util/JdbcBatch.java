@@ -0,0 +1,113 @@
+package com.revature.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+
+//   Chunked addBatch / executeBatch for the GenericDAO bulk methods (db.batch.size rows per round trip).
+//   The connection-less overloads run the whole list in one transaction; the Connection overloads join the caller's.
+
+public final class JdbcBatch {
+
+    @FunctionalInterface
+    public interface Binder<T> {
+        void bind(PreparedStatement stmt, T item) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface KeySetter<T> {
+        void setKey(T item, int key);
+    }
+
+    private JdbcBatch() {}
+
+    public static int batchSize() {
+        return Math.max(1, DBConnection.getIntProperty("db.batch.size", 500));
+    }
+
+
+//   INSERT with generated keys  ||  keys are assigned back to the items in list order
+
+    public static <T> List<T> insert(String sql, List<T> items, Binder<T> binder, KeySetter<T> keySetter) throws SQLException {
+        if (items.isEmpty()) return items;
+        try (Connection conn = DBConnection.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                insert(conn, sql, items, binder, keySetter);
+                conn.commit();
+                return items;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    public static <T> List<T> insert(Connection conn, String sql, List<T> items, Binder<T> binder, KeySetter<T> keySetter) throws SQLException {
+        int size = batchSize();
+        try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            for (int from = 0; from < items.size(); from += size) {
+                List<T> chunk = items.subList(from, Math.min(from + size, items.size()));
+                for (T item : chunk) {
+                    binder.bind(stmt, item);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                try (ResultSet rs = stmt.getGeneratedKeys()) {
+                    int i = 0;
+                    while (rs.next() && i < chunk.size()) {
+                        keySetter.setKey(chunk.get(i++), rs.getInt(1));
+                    }
+                }
+            }
+        }
+        return items;
+    }
+
+
+//   UPDATE / DELETE  ||  returns the number of affected rows
+
+    public static <T> int execute(String sql, List<T> items, Binder<T> binder) throws SQLException {
+        if (items.isEmpty()) return 0;
+        try (Connection conn = DBConnection.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                int affected = execute(conn, sql, items, binder);
+                conn.commit();
+                return affected;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    public static <T> int execute(Connection conn, String sql, List<T> items, Binder<T> binder) throws SQLException {
+        int size = batchSize();
+        int affected = 0;
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int from = 0; from < items.size(); from += size) {
+                int to = Math.min(from + size, items.size());
+                for (T item : items.subList(from, to)) {
+                    binder.bind(stmt, item);
+                    stmt.addBatch();
+                }
+                for (int count : stmt.executeBatch()) {
+                    if (count > 0) affected += count;
+                    else if (count == Statement.SUCCESS_NO_INFO) affected++;
+                }
+            }
+        }
+        return affected;
+    }
+}
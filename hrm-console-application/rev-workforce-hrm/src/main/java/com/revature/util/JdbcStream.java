@@ -0,0 +1,114 @@
+package com.revature.util;
+
+import com.revature.exception.AppException;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+//   Lazily mapped, forward-only query results for the DAO streamAll methods.
+//   Rows arrive db.stream.fetchSize at a time (needs useCursorFetch=true in db.url for a server-side cursor).
+//   The connection is released when the rows run out or the stream is closed - use try-with-resources.
+
+public final class JdbcStream {
+
+    @FunctionalInterface
+    public interface Binder {
+        void bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    private static final Binder NO_PARAMS = stmt -> {};
+
+    private JdbcStream() {}
+
+    public static int fetchSize() {
+        return Math.max(1, DBConnection.getIntProperty("db.stream.fetchSize", 500));
+    }
+
+    public static <T> Stream<T> query(String sql, RowMapper<T> mapper) throws SQLException {
+        return query(sql, NO_PARAMS, mapper);
+    }
+
+    public static <T> Stream<T> query(String sql, Binder binder, RowMapper<T> mapper) throws SQLException {
+        Connection conn = DBConnection.getConnection();
+        PreparedStatement stmt = null;
+        try {
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(fetchSize());
+            binder.bind(stmt);
+            Cursor<T> cursor = new Cursor<>(conn, stmt, stmt.executeQuery(), mapper);
+            return StreamSupport.stream(cursor, false).onClose(cursor::close);
+        } catch (SQLException | RuntimeException e) {
+            closeQuietly(stmt, conn);
+            throw e;
+        }
+    }
+
+    public static <T> void forEach(String sql, Binder binder, RowMapper<T> mapper, Consumer<? super T> action) throws SQLException {
+        try (Stream<T> rows = query(sql, binder, mapper)) {
+            rows.forEach(action);
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource == null) continue;
+            try {
+                resource.close();
+            } catch (Exception ignored) {}
+        }
+    }
+
+
+//   One open result set  ||  maps a row per tryAdvance and closes everything once exhausted
+
+    private static final class Cursor<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Connection conn;
+        private final PreparedStatement stmt;
+        private final ResultSet rs;
+        private final RowMapper<T> mapper;
+        private boolean closed;
+
+        private Cursor(Connection conn, PreparedStatement stmt, ResultSet rs, RowMapper<T> mapper) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.conn = conn;
+            this.stmt = stmt;
+            this.rs = rs;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) return false;
+            try {
+                if (!rs.next()) {
+                    close();
+                    return false;
+                }
+                action.accept(mapper.map(rs));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw new AppException(AppException.ErrorCode.DATABASE_ERROR, "Streaming read failed : " + e.getMessage(), e);
+            }
+        }
+
+        private void close() {
+            if (closed) return;
+            closed = true;
+            closeQuietly(rs, stmt, conn);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.revature.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+//   Immutable org chart built from employees.manager_id.
+//   A DFS assigns each employee an Euler-tour interval [enter, exit); X reports (directly or not) to Y when
+//   Y's interval contains X's, so reporting-line checks, subtree counts and depth are O(1) array lookups.
+
+public final class OrgTree {
+
+    private final Map<Integer, Integer> slot = new HashMap<>();
+    private final int[] ids;
+    private final int[] managerSlot;
+    private final int[] enter;
+    private final int[] exit;
+    private final int[] depth;
+    private final int[] order;
+    private final List<List<Integer>> children;
+
+    private OrgTree(int size) {
+        ids = new int[size];
+        managerSlot = new int[size];
+        enter = new int[size];
+        exit = new int[size];
+        depth = new int[size];
+        order = new int[size];
+        children = new ArrayList<>(size);
+    }
+
+
+//   managerOf maps employee id -> manager id (null for the top); unknown managers and cycles become roots
+
+    public static OrgTree build(Map<Integer, Integer> managerOf) {
+        Map<Integer, Integer> sorted = new TreeMap<>(managerOf);
+        OrgTree tree = new OrgTree(sorted.size());
+        int n = 0;
+        for (int id : sorted.keySet()) {
+            tree.slot.put(id, n);
+            tree.ids[n] = id;
+            tree.children.add(new ArrayList<>());
+            n++;
+        }
+        for (int i = 0; i < n; i++) {
+            Integer manager = sorted.get(tree.ids[i]);
+            Integer m = manager == null ? null : tree.slot.get(manager);
+            tree.managerSlot[i] = m == null || m == i ? -1 : m;
+            if (tree.managerSlot[i] >= 0) tree.children.get(tree.managerSlot[i]).add(i);
+        }
+
+        boolean[] seen = new boolean[n];
+        int[] clock = {0};
+        for (int i = 0; i < n; i++) {
+            if (tree.managerSlot[i] < 0) tree.walk(i, 0, seen, clock);
+        }
+        for (int i = 0; i < n; i++) {
+            if (!seen[i]) {
+                tree.managerSlot[i] = -1;
+                tree.walk(i, 0, seen, clock);
+            }
+        }
+        return tree;
+    }
+
+    private void walk(int root, int rootDepth, boolean[] seen, int[] clock) {
+        Deque<int[]> stack = new ArrayDeque<>();
+        seen[root] = true;
+        depth[root] = rootDepth;
+        order[clock[0]] = root;
+        enter[root] = clock[0]++;
+        stack.push(new int[]{root, 0});
+        while (!stack.isEmpty()) {
+            int[] top = stack.peek();
+            List<Integer> kids = children.get(top[0]);
+            if (top[1] < kids.size()) {
+                int child = kids.get(top[1]++);
+                if (seen[child]) continue;
+                seen[child] = true;
+                depth[child] = depth[top[0]] + 1;
+                order[clock[0]] = child;
+                enter[child] = clock[0]++;
+                stack.push(new int[]{child, 0});
+            } else {
+                exit[top[0]] = clock[0];
+                stack.pop();
+            }
+        }
+    }
+
+    public boolean contains(int employeeId) {
+        return slot.containsKey(employeeId);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+
+//   True when employeeId is anywhere below managerId (not when they are the same person)
+
+    public boolean isUnder(int employeeId, int managerId) {
+        Integer e = slot.get(employeeId);
+        Integer m = slot.get(managerId);
+        if (e == null || m == null || e.equals(m)) return false;
+        return enter[m] < enter[e] && exit[e] <= exit[m];
+    }
+
+    public int depthOf(int employeeId) {
+        Integer s = slot.get(employeeId);
+        return s == null ? -1 : depth[s];
+    }
+
+    public int subtreeSize(int employeeId) {
+        Integer s = slot.get(employeeId);
+        return s == null ? 0 : exit[s] - enter[s] - 1;
+    }
+
+    public List<Integer> directReports(int employeeId) {
+        Integer s = slot.get(employeeId);
+        if (s == null) return Collections.emptyList();
+        List<Integer> out = new ArrayList<>();
+        for (int child : children.get(s)) {
+            if (managerSlot[child] == s) out.add(ids[child]);
+        }
+        return out;
+    }
+
+
+//   Everyone below employeeId in depth-first (org chart) order  ||  a contiguous slice of the Euler tour
+
+    public List<Integer> subtree(int employeeId) {
+        Integer s = slot.get(employeeId);
+        if (s == null) return Collections.emptyList();
+        List<Integer> out = new ArrayList<>(exit[s] - enter[s] - 1);
+        for (int i = enter[s] + 1; i < exit[s]; i++) out.add(ids[order[i]]);
+        return out;
+    }
+
+    public List<Integer> chainToTop(int employeeId) {
+        Integer s = slot.get(employeeId);
+        List<Integer> out = new ArrayList<>();
+        if (s == null) return out;
+        for (int m = managerSlot[s]; m >= 0; m = managerSlot[m]) out.add(ids[m]);
+        return out;
+    }
+}
@@ -0,0 +1,41 @@
+package com.revature.util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+
+//   Default provider  ||  borrows from a bounded ConnectionPool configured by the db.pool.* properties
+
+public class PooledConnectionProvider implements ConnectionProvider {
+
+    private final ConnectionPool pool;
+
+    public PooledConnectionProvider(Properties props) {
+        this.pool = new ConnectionPool(props);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return pool.getConnection();
+    }
+
+    @Override
+    public String getName() {
+        return "pooled";
+    }
+
+    @Override
+    public String getStats() {
+        return pool.getStats().toString();
+    }
+
+    public ConnectionPool.PoolStats getPoolStats() {
+        return pool.getStats();
+    }
+
+    @Override
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
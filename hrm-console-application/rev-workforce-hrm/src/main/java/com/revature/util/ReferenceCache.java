@@ -0,0 +1,123 @@
+package com.revature.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+//   Read-through TTL cache for reference tables (departments, designations, leave types, holidays).
+//   One region per table; the owning DAO invalidates the whole region on every write (cache.reference.ttlSeconds, 0 disables).
+
+public final class ReferenceCache {
+
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+        V load() throws E;
+    }
+
+    private static final List<ReferenceCache> REGIONS = new CopyOnWriteArrayList<>();
+
+    private final String name;
+    private final long ttlNanos;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    private ReferenceCache(String name, long ttlSeconds) {
+        this.name = name;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(0, ttlSeconds));
+    }
+
+    public static ReferenceCache region(String name) {
+        ReferenceCache cache = new ReferenceCache(name, DBConnection.getIntProperty("cache.reference.ttlSeconds", 300));
+        REGIONS.add(cache);
+        return cache;
+    }
+
+
+//   Lists are stored as unmodifiable copies so one caller can't reshape another caller's result
+
+    @SuppressWarnings("unchecked")
+    public <V, E extends Exception> V get(String key, Loader<V, E> loader) throws E {
+        if (ttlNanos == 0) {
+            misses.incrementAndGet();
+            return loader.load();
+        }
+
+        Entry entry = entries.get(key);
+        if (entry != null && System.nanoTime() - entry.loadedAt < ttlNanos) {
+            hits.incrementAndGet();
+            return (V) entry.value;
+        }
+
+        misses.incrementAndGet();
+        long loadedIn = generation.get();
+        V value = loader.load();
+        if (value instanceof List<?> list) {
+            value = (V) List.copyOf(list);
+        }
+        if (value != null && generation.get() == loadedIn) {
+            entries.put(key, new Entry(value, System.nanoTime()));
+        }
+        return value;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+        invalidations.incrementAndGet();
+        listeners.forEach(Runnable::run);
+    }
+
+
+//   Per-row regions (one entry per employee)  ||  drop just that key; the generation bump stops an in-flight load re-storing it
+
+    public void invalidate(String key) {
+        generation.incrementAndGet();
+        entries.remove(key);
+        invalidations.incrementAndGet();
+    }
+
+
+//   Derived structures built from a region (e.g. working-day calendars from holidays) rebuild on the same signal
+
+    public void onInvalidate(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    public static void invalidateAll() {
+        REGIONS.forEach(ReferenceCache::invalidate);
+    }
+
+    public long getHits() { return hits.get(); }
+    public long getMisses() { return misses.get(); }
+    public long getInvalidations() { return invalidations.get(); }
+
+    public double getHitRatio() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0 : (double) hits.get() / total;
+    }
+
+    public static String getStats() {
+        StringBuilder sb = new StringBuilder();
+        for (ReferenceCache cache : REGIONS) {
+            if (sb.length() > 0) sb.append(", ");
+            sb.append(cache);
+        }
+        return "[" + sb + "]";
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{entries=%d, hits=%d, misses=%d, invalidations=%d, hitRatio=%.2f}",
+                name, entries.size(), getHits(), getMisses(), getInvalidations(), getHitRatio());
+    }
+
+    private record Entry(Object value, long loadedAt) {}
+}
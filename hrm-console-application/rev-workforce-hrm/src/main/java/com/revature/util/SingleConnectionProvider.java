@@ -0,0 +1,170 @@
+package com.revature.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+//   One shared physical connection, reopened if it goes stale.
+//   A thread holds it from getConnection() until close(); nested calls on the same thread share it, except while the
+//   caller has a transaction open (autoCommit off) : then the nested call gets its own short-lived connection, so a
+//   nested commit or rollback (JdbcBatch, DAO writes) can't end the caller's transaction early.
+
+public class SingleConnectionProvider implements ConnectionProvider {
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int validationTimeoutSeconds;
+    private final int statementCacheSize;
+    private final StatementCache.Counters statementCounters = new StatementCache.Counters();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Connection physical;
+    private StatementCache statements;
+    private long handedOut;
+    private long reconnects;
+    private long separate;
+
+    public SingleConnectionProvider(Properties props) {
+        this.url = props.getProperty("db.url", "jdbc:mysql://localhost:3306/hrm_console");
+        this.username = props.getProperty("db.username", "root");
+        this.password = props.getProperty("db.password", "Scar2511@#");
+        long validationTimeoutMs = Long.parseLong(props.getProperty("db.pool.validationTimeout", "3000").trim());
+        this.validationTimeoutSeconds = (int) Math.max(1, (validationTimeoutMs + 999) / 1000);
+        this.statementCacheSize = StatementCache.sizeFrom(props);
+        loadDriver(props.getProperty("db.driver", "com.mysql.cj.jdbc.Driver"));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        lock.lock();
+        try {
+            if (lock.getHoldCount() == 1 && (physical == null || !physical.isValid(validationTimeoutSeconds))) {
+                closePhysical();
+                physical = DriverManager.getConnection(url, username, password);
+                statements = statementCacheSize > 0
+                        ? new StatementCache(physical, statementCacheSize, statementCounters) : null;
+                reconnects++;
+            } else if (lock.getHoldCount() > 1 && !physical.getAutoCommit()) {
+                Connection own = DriverManager.getConnection(url, username, password);
+                separate++;
+                handedOut++;
+                return handle(own, null);
+            }
+            handedOut++;
+            return handle(physical, statements);
+        } catch (SQLException e) {
+            lock.unlock();
+            throw e;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "single";
+    }
+
+    @Override
+    public String getStats() {
+        return String.format("[handedOut=%d, connects=%d, separate=%d, inUse=%s] %s", handedOut, reconnects, separate,
+                lock.isLocked(), statementCounters);
+    }
+
+    @Override
+    public void shutdown() {
+        lock.lock();
+        try {
+            closePhysical();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Connection handle(Connection target, StatementCache cache) {
+        boolean[] closed = {false};
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            if (!closed[0]) {
+                                closed[0] = true;
+                                release(target);
+                            }
+                            return null;
+                        case "isClosed":
+                            return closed[0] || target.isClosed();
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            break;
+                    }
+                    if (closed[0]) {
+                        throw new SQLException("Connection has already been released");
+                    }
+                    if (cache != null && StatementCache.isCacheable(method.getName(), method.getParameterTypes())) {
+                        return cache.prepare((Connection) proxy, args);
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    private void release(Connection target) {
+        if (target != physical) {
+            try {
+                if (!target.isClosed() && !target.getAutoCommit()) target.rollback();
+                target.close();
+            } catch (SQLException ignored) {
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+        try {
+            if (lock.getHoldCount() == 1 && !target.isClosed()) {
+                if (!target.getAutoCommit()) {
+                    target.rollback();
+                    target.setAutoCommit(true);
+                }
+                if (statements != null) statements.reset();
+            }
+        } catch (SQLException e) {
+            closePhysical();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closePhysical() {
+        if (statements != null) {
+            statements.closeAll();
+            statements = null;
+        }
+        if (physical != null) {
+            try {
+                physical.close();
+            } catch (SQLException ignored) {}
+            physical = null;
+        }
+    }
+
+    private static void loadDriver(String driver) {
+        try {
+            Class.forName(driver);
+        } catch (ClassNotFoundException e) {
+            System.err.println("Driver not found : " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.revature.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+//   Per-connection LRU cache of PreparedStatements keyed by SQL text (db.statementCache.size, 0 disables).
+//   close() on a cached statement clears it and keeps it open for the next caller on the same physical connection.
+//   Pair with useServerPrepStmts=true in db.url so MySQL keeps the parsed plan server-side.
+
+public class StatementCache {
+
+    private final Connection physical;
+    private final int maxSize;
+    private final Counters counters;
+    private final LinkedHashMap<String, Entry> entries;
+    private final List<Entry> retired = new ArrayList<>();
+
+    public StatementCache(Connection physical, int maxSize, Counters counters) {
+        this.physical = physical;
+        this.maxSize = maxSize;
+        this.counters = counters;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public static int sizeFrom(Properties props) {
+        try {
+            return Math.max(0, Integer.parseInt(props.getProperty("db.statementCache.size", "64").trim()));
+        } catch (NumberFormatException e) {
+            return 64;
+        }
+    }
+
+
+//   Only prepareStatement(String) and prepareStatement(String, int autoGeneratedKeys) are cached
+
+    public static boolean isCacheable(String methodName, Class<?>[] types) {
+        if (!"prepareStatement".equals(methodName) || types.length == 0 || types[0] != String.class) return false;
+        return types.length == 1 || (types.length == 2 && types[1] == int.class);
+    }
+
+    public synchronized PreparedStatement prepare(Connection logical, Object[] args) throws SQLException {
+        String sql = (String) args[0];
+        int keys = args.length > 1 ? (Integer) args[1] : Statement.NO_GENERATED_KEYS;
+        String key = (keys == Statement.RETURN_GENERATED_KEYS ? "K|" : "N|") + sql;
+
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.inUse) {
+            counters.hits.incrementAndGet();
+            return entry.lease(logical);
+        }
+
+        counters.misses.incrementAndGet();
+        PreparedStatement stmt = physical.prepareStatement(sql, keys);
+        if (entry != null) {
+            return stmt;
+        }
+
+        entry = new Entry(stmt);
+        entries.put(key, entry);
+        evictOverflow();
+        return entry.lease(logical);
+    }
+
+
+//   Called when the connection goes back to the pool  ||  statements the caller forgot to close are reclaimed
+
+    public synchronized void reset() {
+        entries.values().removeIf(entry -> entry.inUse && !entry.giveBack());
+        for (Entry entry : retired) {
+            entry.closePhysical();
+        }
+        retired.clear();
+    }
+
+    public synchronized void closeAll() {
+        for (Entry entry : entries.values()) {
+            entry.closePhysical();
+        }
+        for (Entry entry : retired) {
+            entry.closePhysical();
+        }
+        entries.clear();
+        retired.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void evictOverflow() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (entries.size() > maxSize && it.hasNext()) {
+            Entry eldest = it.next();
+            it.remove();
+            counters.evictions.incrementAndGet();
+            if (eldest.inUse) {
+                retired.add(eldest);
+            } else {
+                eldest.closePhysical();
+            }
+        }
+    }
+
+    private synchronized void returned(Entry entry) {
+        if (!entry.giveBack()) {
+            entries.values().remove(entry);
+        } else if (retired.remove(entry)) {
+            entry.closePhysical();
+        }
+    }
+
+
+//   One cached statement  ||  each lease gets its own proxy so a closed handle can't reach the next caller's statement
+
+    private final class Entry {
+        private final PreparedStatement stmt;
+        private boolean inUse;
+        private long lease;
+        private ResultSet lastResult;
+
+        private Entry(PreparedStatement stmt) {
+            this.stmt = stmt;
+        }
+
+        private PreparedStatement lease(Connection logical) {
+            inUse = true;
+            long myLease = ++lease;
+            boolean[] closed = {false};
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "close":
+                                if (!closed[0]) {
+                                    closed[0] = true;
+                                    if (lease == myLease) returned(this);
+                                }
+                                return null;
+                            case "isClosed":
+                                return closed[0] || lease != myLease || stmt.isClosed();
+                            case "getConnection":
+                                return logical;
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            default:
+                                break;
+                        }
+                        if (closed[0] || lease != myLease) {
+                            throw new SQLException("Statement has already been closed");
+                        }
+                        try {
+                            Object result = method.invoke(stmt, args);
+                            if (result instanceof ResultSet && method.getName().startsWith("execute")) {
+                                lastResult = (ResultSet) result;
+                            }
+                            return result;
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+
+        private boolean giveBack() {
+            inUse = false;
+            lease++;
+            try {
+                if (lastResult != null) lastResult.close();
+                stmt.clearParameters();
+                stmt.clearBatch();
+                return true;
+            } catch (SQLException e) {
+                closePhysical();
+                return false;
+            } finally {
+                lastResult = null;
+            }
+        }
+
+        private void closePhysical() {
+            try {
+                stmt.close();
+            } catch (SQLException ignored) {}
+        }
+    }
+
+
+//   Hit / miss / eviction totals shared by every cache of one provider
+
+    public static final class Counters {
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong evictions = new AtomicLong();
+
+        public long getHits() { return hits.get(); }
+        public long getMisses() { return misses.get(); }
+        public long getEvictions() { return evictions.get(); }
+
+        public double getHitRatio() {
+            long total = hits.get() + misses.get();
+            return total == 0 ? 0 : (double) hits.get() / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[stmtHits=%d, stmtMisses=%d, stmtEvictions=%d, stmtHitRatio=%.2f]",
+                    getHits(), getMisses(), getEvictions(), getHitRatio());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.revature.util;
+
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+//   Working-day index  ||  one prefix-sum array per calendar year, built on first use from the weekend days and holidays.
+//   workingDaysBetween is two array lookups per year spanned; invalidate() drops the built years when holidays change.
+//   Regional calendars (work_calendars) each get their own shared instance keyed by calendar code and weekend.
+
+public final class WorkingDayCalendar {
+
+    @FunctionalInterface
+    public interface HolidaySource {
+        Collection<LocalDate> holidaysFor(int year) throws SQLException;
+    }
+
+    public static final Set<DayOfWeek> SATURDAY_SUNDAY = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    private static final HolidaySource NO_HOLIDAYS = year -> Set.of();
+    private static final Map<String, WorkingDayCalendar> SHARED = new ConcurrentHashMap<>();
+
+    private final Set<DayOfWeek> weekend;
+    private final HolidaySource source;
+    private final Map<Integer, int[]> years = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public WorkingDayCalendar(Set<DayOfWeek> weekend, HolidaySource source) {
+        this.weekend = weekend.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekend);
+        this.source = source;
+    }
+
+    public static WorkingDayCalendar weekendsOnly() {
+        return DefaultWeekend.CALENDAR;
+    }
+
+
+//   calendar.default.weekend in database.properties  ||  used by DateUtil.isWeekend and calendars without a row
+
+    public static Set<DayOfWeek> defaultWeekend() {
+        return DefaultWeekend.DAYS;
+    }
+
+    public static Set<DayOfWeek> parseWeekend(String days) {
+        if (days == null || days.isBlank()) {
+            return EnumSet.copyOf(SATURDAY_SUNDAY);
+        }
+        Set<DayOfWeek> weekend = EnumSet.noneOf(DayOfWeek.class);
+        for (String day : days.split(",")) {
+            String name = day.trim().toUpperCase(Locale.ROOT);
+            if (name.isEmpty() || name.equals("NONE")) continue;
+            try {
+                weekend.add(DayOfWeek.valueOf(name));
+            } catch (IllegalArgumentException e) {
+                System.err.println("Ignoring unknown weekend day : " + day);
+            }
+        }
+        return weekend;
+    }
+
+
+//   Long-lived calendars backed by the holidays table  ||  HolidayDAOImpl / WorkCalendarDAOImpl drop these on every write
+
+    public static WorkingDayCalendar shared(String name, Set<DayOfWeek> weekend, HolidaySource source) {
+        WorkingDayCalendar calendar = new WorkingDayCalendar(weekend, source);
+        return SHARED.computeIfAbsent(name + "|" + calendar.weekend, n -> calendar);
+    }
+
+    public static void invalidateShared() {
+        SHARED.values().forEach(WorkingDayCalendar::invalidate);
+        SHARED.clear();
+    }
+
+    public int workingDaysBetween(LocalDate startDate, LocalDate endDate) throws SQLException {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            return 0;
+        }
+        int total = 0;
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            int[] prefix = indexFor(year);
+            int from = year == startDate.getYear() ? startDate.getDayOfYear() : 1;
+            int to = year == endDate.getYear() ? endDate.getDayOfYear() : prefix.length - 1;
+            total += prefix[to] - prefix[from - 1];
+        }
+        return total;
+    }
+
+    public boolean isWorkingDay(LocalDate date) throws SQLException {
+        int[] prefix = indexFor(date.getYear());
+        return prefix[date.getDayOfYear()] > prefix[date.getDayOfYear() - 1];
+    }
+
+    public boolean isWeekend(LocalDate date) {
+        return weekend.contains(date.getDayOfWeek());
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        years.clear();
+    }
+
+
+//   prefix[d] = working days from 1 Jan through day-of-year d, prefix[0] = 0
+
+    private int[] indexFor(int year) throws SQLException {
+        int[] prefix = years.get(year);
+        if (prefix != null) return prefix;
+
+        long builtIn = generation.get();
+        Set<LocalDate> holidays = new HashSet<>(source.holidaysFor(year));
+        int length = Year.of(year).length();
+        prefix = new int[length + 1];
+        LocalDate date = LocalDate.ofYearDay(year, 1);
+        for (int day = 1; day <= length; day++, date = date.plusDays(1)) {
+            boolean working = !weekend.contains(date.getDayOfWeek()) && !holidays.contains(date);
+            prefix[day] = prefix[day - 1] + (working ? 1 : 0);
+        }
+        if (generation.get() == builtIn) {
+            years.put(year, prefix);
+        }
+        return prefix;
+    }
+
+    private static final class DefaultWeekend {
+        private static final Set<DayOfWeek> DAYS = Collections.unmodifiableSet(
+                parseWeekend(DBConnection.getProperty("calendar.default.weekend", "SATURDAY,SUNDAY")));
+        private static final WorkingDayCalendar CALENDAR = new WorkingDayCalendar(DAYS, NO_HOLIDAYS);
+    }
+}
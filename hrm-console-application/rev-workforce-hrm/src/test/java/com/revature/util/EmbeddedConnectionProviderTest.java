@@ -0,0 +1,74 @@
+package com.revature.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmbeddedConnectionProviderTest {
+
+    private EmbeddedConnectionProvider provider;
+
+    @AfterEach
+    void tearDown() {
+        if (provider != null) provider.shutdown();
+    }
+
+    @Test
+    void initScriptRunsAgainstTheInMemoryDatabase() throws SQLException {
+        provider = new EmbeddedConnectionProvider(props("embedded-test.sql"));
+
+        assertEquals(1, countDepartments());
+    }
+
+    @Test
+    void connectionsShareOneDatabase() throws SQLException {
+        provider = new EmbeddedConnectionProvider(props("embedded-test.sql"));
+
+        try (Connection conn = provider.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("INSERT INTO departments (department_name) VALUES ('Finance')");
+        }
+
+        assertEquals(2, countDepartments());
+        assertTrue(provider.getStats().contains("handedOut=2"));
+    }
+
+    @Test
+    void missingInitScriptFailsStartup() {
+        assertThrows(IllegalStateException.class, () -> new EmbeddedConnectionProvider(props("no-such-script.sql")));
+    }
+
+    @Test
+    void missingDriverFailsStartup() {
+        Properties props = props(null);
+        props.setProperty("db.embedded.driver", "org.example.NoSuchDriver");
+
+        assertThrows(IllegalStateException.class, () -> new EmbeddedConnectionProvider(props));
+    }
+
+    private int countDepartments() throws SQLException {
+        try (Connection conn = provider.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM departments")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static Properties props(String initScript) {
+        Properties props = new Properties();
+        props.setProperty("db.embedded.url", "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        if (initScript != null) props.setProperty("db.embedded.initScript", initScript);
+        return props;
+    }
+}
@@ -0,0 +1,105 @@
+package com.revature.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleConnectionProviderTest {
+
+    private SingleConnectionProvider provider;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty("db.driver", "org.h2.Driver");
+        props.setProperty("db.url", "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        props.setProperty("db.username", "sa");
+        props.setProperty("db.password", "");
+        provider = new SingleConnectionProvider(props);
+
+        try (Connection conn = provider.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE holidays (holiday_id INT AUTO_INCREMENT PRIMARY KEY, holiday_name VARCHAR(100))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        provider.shutdown();
+    }
+
+    @Test
+    void nestedCallsShareTheConnectionOutsideATransaction() throws SQLException {
+        try (Connection outer = provider.getConnection();
+             Connection inner = provider.getConnection()) {
+            assertEquals(sessionId(outer), sessionId(inner));
+        }
+    }
+
+    @Test
+    void nestedCommitDoesNotEndTheCallersTransaction() throws SQLException {
+        try (Connection outer = provider.getConnection()) {
+            outer.setAutoCommit(false);
+            insert(outer, "Outer");
+
+            try (Connection inner = provider.getConnection()) {
+                assertNotEquals(sessionId(outer), sessionId(inner));
+                inner.setAutoCommit(false);
+                insert(inner, "Inner");
+                inner.commit();
+                inner.setAutoCommit(true);
+            }
+
+            outer.rollback();
+            outer.setAutoCommit(true);
+        }
+
+        assertEquals(0, count("Outer"));
+        assertEquals(1, count("Inner"));
+        assertTrue(provider.getStats().contains("separate=1"));
+    }
+
+    @Test
+    void releaseRollsBackAnUnfinishedTransaction() throws SQLException {
+        try (Connection conn = provider.getConnection()) {
+            conn.setAutoCommit(false);
+            insert(conn, "Abandoned");
+        }
+
+        assertEquals(0, count("Abandoned"));
+    }
+
+    private static void insert(Connection conn, String name) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("INSERT INTO holidays (holiday_name) VALUES ('" + name + "')");
+        }
+    }
+
+    private int count(String name) throws SQLException {
+        try (Connection conn = provider.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM holidays WHERE holiday_name = '" + name + "'")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static int sessionId(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT SESSION_ID()")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+CREATE TABLE departments (
+    department_id INT AUTO_INCREMENT PRIMARY KEY,
+    department_name VARCHAR(100) NOT NULL
+);
+
+INSERT INTO departments (department_name) VALUES ('Engineering');